@@ -155,6 +155,7 @@ public final class GatewayBasedConfiguration {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setNativeTransportEnabled(cluster.isMessageNativeTransport())
             .setInterfaces(Collections.singletonList(cluster.getHost()))
             .setPort(cluster.getPort());
 
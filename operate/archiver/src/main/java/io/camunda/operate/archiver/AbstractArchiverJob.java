@@ -41,6 +41,7 @@ public abstract class AbstractArchiverJob implements ArchiverJob {
 
   @Override
   public void run() {
+    final long startTime = System.currentTimeMillis();
 
     archiveNextBatch()
         .thenApply(
@@ -55,8 +56,10 @@ public abstract class AbstractArchiverJob implements ArchiverJob {
 
               final var delay =
                   Math.max(
-                      operateProperties.getArchiver().getDelayBetweenRuns(),
-                      idleStrategy.idleTime());
+                      Math.max(
+                          operateProperties.getArchiver().getDelayBetweenRuns(),
+                          idleStrategy.idleTime()),
+                      getThrottleDelay(count, System.currentTimeMillis() - startTime));
 
               return delay;
             })
@@ -78,6 +81,19 @@ public abstract class AbstractArchiverJob implements ArchiverJob {
             });
   }
 
+  /**
+   * Returns how long to wait before the next run, so that archiving {@code count} entities took at
+   * least as long as allowed by the configured maximum throughput.
+   */
+  long getThrottleDelay(final int count, final long elapsed) {
+    final int maxArchivedPerSecond = operateProperties.getArchiver().getMaxArchivedPerSecond();
+    if (maxArchivedPerSecond <= 0 || count <= 0) {
+      return 0;
+    }
+    final long minDuration = count * 1000L / maxArchivedPerSecond;
+    return Math.max(0, minDuration - elapsed);
+  }
+
   @Override
   public CompletableFuture<Integer> archiveNextBatch() {
     return getNextBatch().thenCompose(this::archiveBatch);
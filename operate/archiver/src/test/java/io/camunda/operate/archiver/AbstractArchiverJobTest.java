@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.archiver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.operate.property.OperateProperties;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AbstractArchiverJobTest {
+
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @InjectMocks private TestArchiverJob underTest;
+
+  @Test
+  public void shouldNotThrottleWhenLimitIsDisabled() {
+    // given
+    operateProperties.getArchiver().setMaxArchivedPerSecond(0);
+
+    // when
+    final long delay = underTest.getThrottleDelay(1_000, 0);
+
+    // then
+    assertThat(delay).isZero();
+  }
+
+  @Test
+  public void shouldDelayForRemainingTimeWhenRunWasFaster() {
+    // given
+    operateProperties.getArchiver().setMaxArchivedPerSecond(100);
+
+    // when - 500 entities may take 5 seconds at most 100 per second
+    final long delay = underTest.getThrottleDelay(500, 2_000);
+
+    // then
+    assertThat(delay).isEqualTo(3_000);
+  }
+
+  @Test
+  public void shouldNotDelayWhenRunWasSlower() {
+    // given
+    operateProperties.getArchiver().setMaxArchivedPerSecond(100);
+
+    // when
+    final long delay = underTest.getThrottleDelay(500, 6_000);
+
+    // then
+    assertThat(delay).isZero();
+  }
+
+  static class TestArchiverJob extends AbstractArchiverJob {
+
+    @Override
+    public CompletableFuture<Integer> archiveBatch(final ArchiveBatch archiveBatch) {
+      return CompletableFuture.completedFuture(0);
+    }
+
+    @Override
+    public CompletableFuture<ArchiveBatch> getNextBatch() {
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+}
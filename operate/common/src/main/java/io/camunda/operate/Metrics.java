@@ -33,6 +33,8 @@ public class Metrics {
   public static final String TIMER_NAME_IMPORT_TIME = OPERATE_NAMESPACE + "import.time";
   public static final String TIMER_NAME_IMPORT_JOB_SCHEDULED_TIME =
       OPERATE_NAMESPACE + "import.job.scheduled";
+  public static final String TIMER_NAME_IMPORT_JOB_QUEUE_TIME =
+      OPERATE_NAMESPACE + "import.job.queue.time";
   public static final String TIMER_NAME_IMPORT_PROCESSING_DURATION =
       OPERATE_NAMESPACE + "import.processing.duration";
   public static final String TIMER_NAME_IMPORT_POSITION_UPDATE =
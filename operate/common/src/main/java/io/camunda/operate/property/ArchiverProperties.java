@@ -49,6 +49,13 @@ public class ArchiverProperties {
    */
   private int delayBetweenRuns = 2000;
 
+  /**
+   * Maximum number of entities (process instances or batch operations) one archiver thread moves
+   * per second. The archiver waits between runs accordingly, so that its reindex and delete tasks
+   * don't compete with the importer and the webapp for cluster resources. 0 disables the limit.
+   */
+  private int maxArchivedPerSecond = 0;
+
   public String getIlmMinAgeForDeleteArchivedIndices() {
     return ilmMinAgeForDeleteArchivedIndices;
   }
@@ -132,4 +139,12 @@ public class ArchiverProperties {
   public void setDelayBetweenRuns(int delayBetweenRuns) {
     this.delayBetweenRuns = delayBetweenRuns;
   }
+
+  public int getMaxArchivedPerSecond() {
+    return maxArchivedPerSecond;
+  }
+
+  public void setMaxArchivedPerSecond(int maxArchivedPerSecond) {
+    this.maxArchivedPerSecond = maxArchivedPerSecond;
+  }
 }
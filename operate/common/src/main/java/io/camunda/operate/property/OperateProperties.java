@@ -52,6 +52,12 @@ public class OperateProperties {
   /** Maximum size of batch operation. */
   private Long batchOperationMaxSize = BATCH_OPERATION_MAX_SIZE_DEFAULT;
 
+  /**
+   * How long (in milliseconds) the flow node statistics of a process diagram may be served from
+   * cache before they are aggregated again. 0 disables the cache.
+   */
+  private long flowNodeStatisticsCacheTtl = 0;
+
   private boolean enterprise = false;
 
   private String tasklistUrl = null;
@@ -135,6 +141,14 @@ public class OperateProperties {
     this.batchOperationMaxSize = batchOperationMaxSize;
   }
 
+  public long getFlowNodeStatisticsCacheTtl() {
+    return flowNodeStatisticsCacheTtl;
+  }
+
+  public void setFlowNodeStatisticsCacheTtl(final long flowNodeStatisticsCacheTtl) {
+    this.flowNodeStatisticsCacheTtl = flowNodeStatisticsCacheTtl;
+  }
+
   public boolean isCsrfPreventionEnabled() {
     return csrfPreventionEnabled;
   }
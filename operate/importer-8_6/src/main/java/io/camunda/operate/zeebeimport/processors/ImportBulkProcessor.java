@@ -27,6 +27,7 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.value.*;
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -279,7 +280,9 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
       throws PersistenceException {
     // old style
     incidentZeebeRecordProcessor.processIncidentRecord(zeebeRecords, batchRequest, concurrencyMode);
-    for (final Record record : zeebeRecords) {
+    // the list view and flow node instance documents only reflect the latest incident record of
+    // an element instance, all earlier updates of the same batch would be overwritten in the bulk
+    for (final Record record : getLatestRecordPerElementInstance(zeebeRecords)) {
       listViewZeebeRecordProcessor.processIncidentRecord(record, batchRequest, concurrencyMode);
       flowNodeInstanceZeebeRecordProcessor.processIncidentRecord(record, batchRequest);
     }
@@ -291,6 +294,15 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
         groupedIncidentRecordsPerActivityInst, batchRequest, concurrencyMode);
   }
 
+  private Collection<Record> getLatestRecordPerElementInstance(final List<Record> zeebeRecords) {
+    final Map<Long, Record> latestRecords = new LinkedHashMap<>();
+    for (final Record record : zeebeRecords) {
+      final IncidentRecordValue recordValue = (IncidentRecordValue) record.getValue();
+      latestRecords.put(recordValue.getElementInstanceKey(), record);
+    }
+    return latestRecords.values();
+  }
+
   private void processProcessInstanceRecords(
       final ImportBatch importBatch,
       final BatchRequest batchRequest,
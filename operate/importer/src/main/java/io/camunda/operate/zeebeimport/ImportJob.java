@@ -10,12 +10,14 @@ package io.camunda.operate.zeebeimport;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.HitEntity;
 import io.camunda.operate.entities.meta.ImportPositionEntity;
 import io.camunda.operate.exceptions.NoSuchIndexException;
 import io.camunda.operate.exceptions.OperateRuntimeException;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.store.ZeebeStore;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +42,7 @@ public class ImportJob implements Callable<Boolean> {
   private final OffsetDateTime creationTime;
   private ImportBatch importBatch;
   private ImportPositionEntity lastProcessedPosition;
+  private boolean queueTimeRecorded;
   @Autowired private ImportBatchProcessorFactory importBatchProcessorFactory;
 
   @Autowired private ImportPositionHolder importPositionHolder;
@@ -57,6 +60,8 @@ public class ImportJob implements Callable<Boolean> {
 
   @Autowired private OperateProperties operateProperties;
 
+  @Autowired private Metrics metrics;
+
   public ImportJob(final ImportBatch importBatch, final ImportPositionEntity previousPosition) {
     this.importBatch = importBatch;
     this.previousPosition = previousPosition;
@@ -65,6 +70,7 @@ public class ImportJob implements Callable<Boolean> {
 
   @Override
   public Boolean call() {
+    recordQueueTime();
     processPossibleIndexChange();
 
     // separate importBatch in sub-batches per index
@@ -84,6 +90,25 @@ public class ImportJob implements Callable<Boolean> {
     return true;
   }
 
+  /**
+   * Records how long the job waited in the reader's queue before it was picked up, i.e. the gap
+   * between the read stage and the processing stage. Retries of the same job are not counted.
+   */
+  private void recordQueueTime() {
+    if (queueTimeRecorded || importBatch.getScheduledTime() == null) {
+      return;
+    }
+    queueTimeRecorded = true;
+    metrics
+        .getTimer(
+            Metrics.TIMER_NAME_IMPORT_JOB_QUEUE_TIME,
+            Metrics.TAG_KEY_TYPE,
+            importBatch.getImportValueType().name(),
+            Metrics.TAG_KEY_PARTITION,
+            String.valueOf(importBatch.getPartitionId()))
+        .record(Duration.between(importBatch.getScheduledTime(), OffsetDateTime.now()));
+  }
+
   @SuppressWarnings("checkstyle:NestedIfDepth")
   private void processPossibleIndexChange() {
     // if there was index change, comparing with previous batch, or there are more than one index in
@@ -43,10 +43,8 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.elasticsearch.ElasticsearchStatusException;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.elasticsearch.search.SearchHit;
@@ -356,43 +354,33 @@ public class ElasticsearchRecordsReader implements RecordsReader {
     return readNextBatchBySequence(sequence, null);
   }
 
-  private HitEntity[] read(final SearchRequest searchRequest, final boolean scrollNeeded)
+  /**
+   * Reads the hits of the given request. If all pages are requested, the following pages are read
+   * with search_after on the sort values of the last hit, which is cheap since the request is
+   * sorted by the unique sequence. Unlike a scroll, this does not keep a search context open on the
+   * cluster, and it stops as soon as a page is not full instead of requesting an empty one.
+   */
+  private HitEntity[] read(final SearchRequest searchRequest, final boolean readAllPages)
       throws IOException {
-    String scrollId = null;
-    try {
-      final List<HitEntity> searchHits = new ArrayList<>();
+    final List<HitEntity> searchHits = new ArrayList<>();
+    final int pageSize = searchRequest.source().size();
 
-      if (scrollNeeded) {
-        searchRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
-      }
-      SearchResponse response = zeebeEsClient.search(searchRequest, requestOptions);
+    SearchHit[] hits;
+    do {
+      final SearchResponse response = zeebeEsClient.search(searchRequest, requestOptions);
       checkForFailedShards(response);
 
-      searchHits.addAll(
-          Arrays.stream(response.getHits().getHits()).map(this::searchHitToOperateHit).toList());
-
-      if (scrollNeeded) {
-        scrollId = response.getScrollId();
-        do {
-          final SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
-          scrollRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
-
-          response = zeebeEsClient.scroll(scrollRequest, requestOptions);
-          checkForFailedShards(response);
-
-          scrollId = response.getScrollId();
-          searchHits.addAll(
-              Arrays.stream(response.getHits().getHits())
-                  .map(this::searchHitToOperateHit)
-                  .toList());
-        } while (response.getHits().getHits().length != 0);
+      hits = response.getHits().getHits();
+      for (final SearchHit hit : hits) {
+        searchHits.add(searchHitToOperateHit(hit));
       }
-      return searchHits.toArray(new HitEntity[0]);
-    } finally {
-      if (scrollId != null) {
-        clearScroll(scrollId, zeebeEsClient);
+
+      if (hits.length > 0) {
+        searchRequest.source().searchAfter(hits[hits.length - 1].getSortValues());
       }
-    }
+    } while (readAllPages && hits.length == pageSize);
+
+    return searchHits.toArray(new HitEntity[0]);
   }
 
   private HitEntity searchHitToOperateHit(final SearchHit searchHit) {
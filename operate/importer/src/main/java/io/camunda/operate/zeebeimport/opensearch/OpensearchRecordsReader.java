@@ -45,6 +45,7 @@ import java.io.StringWriter;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -52,6 +53,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
@@ -75,6 +77,7 @@ import org.springframework.stereotype.Component;
 public class OpensearchRecordsReader implements RecordsReader {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OpensearchRecordsReader.class);
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   /** Partition id. */
   private final int partitionId;
@@ -252,16 +255,18 @@ public class OpensearchRecordsReader implements RecordsReader {
       }
     }
 
-    final var searchRequestBuilder =
-        searchRequestBuilder(aliasName)
-            .routing(String.valueOf(partitionId))
-            .requestCache(false)
-            .size(Math.min(maxNumberOfHits, QUERY_MAX_SIZE))
-            .sort(sortOptions(ImportPositionIndex.SEQUENCE, SortOrder.Asc))
-            .query(gtLte(ImportPositionIndex.SEQUENCE, sequence, lessThanEqualsSequence));
-    final boolean scrollNeeded = maxNumberOfHits >= ElasticsearchUtil.QUERY_MAX_SIZE;
+    // request builders can only be built once, so every page needs a new one
+    final Supplier<SearchRequest.Builder> searchRequestBuilder =
+        () ->
+            searchRequestBuilder(aliasName)
+                .routing(String.valueOf(partitionId))
+                .requestCache(false)
+                .size(Math.min(maxNumberOfHits, QUERY_MAX_SIZE))
+                .sort(sortOptions(ImportPositionIndex.SEQUENCE, SortOrder.Asc))
+                .query(gtLte(ImportPositionIndex.SEQUENCE, sequence, lessThanEqualsSequence));
+    final boolean readAllPages = maxNumberOfHits >= ElasticsearchUtil.QUERY_MAX_SIZE;
     try {
-      final HitEntity[] hits = withTimerSearchHits(() -> read(searchRequestBuilder, scrollNeeded));
+      final HitEntity[] hits = withTimerSearchHits(() -> read(searchRequestBuilder, readAllPages));
       if (hits.length == 0) {
         countEmptyRuns++;
       } else {
@@ -387,22 +392,33 @@ public class OpensearchRecordsReader implements RecordsReader {
     return readNextBatchBySequence(sequence, null);
   }
 
+  /**
+   * Reads the hits of the given request. If all pages are requested, the following pages are read
+   * with search_after on the sort values of the last hit, which is cheap since the request is
+   * sorted by the unique sequence. Unlike a scroll, this does not keep a search context open on the
+   * cluster, and it stops as soon as a page is not full instead of requesting an empty one.
+   */
   private HitEntity[] read(
-      final SearchRequest.Builder searchRequestBuilder, final boolean scrollNeeded)
+      final Supplier<SearchRequest.Builder> searchRequestBuilder, final boolean readAllPages)
       throws IOException {
-    final List<Hit<Object>> hits =
-        scrollNeeded
-            ? zeebeRichOpenSearchClient
-                .doc()
-                .scrollHits(searchRequestBuilder, Object.class)
-                .values()
-            : zeebeRichOpenSearchClient
-                .doc()
-                .search(searchRequestBuilder, Object.class)
-                .hits()
-                .hits();
+    final List<HitEntity> searchHits = new ArrayList<>();
+
+    List<Hit<Object>> hits;
+    List<String> searchAfter = null;
+    do {
+      final var pageRequestBuilder = searchRequestBuilder.get();
+      if (searchAfter != null) {
+        pageRequestBuilder.searchAfter(searchAfter);
+      }
+      hits = zeebeRichOpenSearchClient.doc().search(pageRequestBuilder, Object.class).hits().hits();
+      hits.stream().map(this::searchHitToOperateHit).forEach(searchHits::add);
+
+      if (!hits.isEmpty()) {
+        searchAfter = hits.get(hits.size() - 1).sort();
+      }
+    } while (readAllPages && hits.size() == QUERY_MAX_SIZE);
 
-    return hits.stream().map(this::searchHitToOperateHit).toArray(HitEntity[]::new);
+    return searchHits.toArray(new HitEntity[0]);
   }
 
   private void rescheduleReader(final Integer readerDelay) {
@@ -420,7 +436,7 @@ public class OpensearchRecordsReader implements RecordsReader {
     }
     final var stringWriter = new StringWriter();
     try {
-      new ObjectMapper().writeValue(stringWriter, searchHit.source());
+      OBJECT_MAPPER.writeValue(stringWriter, searchHit.source());
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
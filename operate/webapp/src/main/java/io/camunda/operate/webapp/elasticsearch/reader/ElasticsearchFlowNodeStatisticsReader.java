@@ -32,6 +32,7 @@ import io.camunda.operate.tenant.TenantAwareElasticsearchClient;
 import io.camunda.operate.util.CollectionUtil;
 import io.camunda.operate.util.ElasticsearchUtil;
 import io.camunda.operate.webapp.elasticsearch.QueryHelper;
+import io.camunda.operate.webapp.reader.FlowNodeStatisticsCache;
 import io.camunda.operate.webapp.reader.FlowNodeStatisticsReader;
 import io.camunda.operate.webapp.rest.dto.FlowNodeStatisticsDto;
 import io.camunda.operate.webapp.rest.dto.listview.ListViewQueryDto;
@@ -68,8 +69,15 @@ public class ElasticsearchFlowNodeStatisticsReader implements FlowNodeStatistics
 
   @Autowired private QueryHelper queryHelper;
 
+  @Autowired private FlowNodeStatisticsCache flowNodeStatisticsCache;
+
   @Override
   public Collection<FlowNodeStatisticsDto> getFlowNodeStatistics(ListViewQueryDto query) {
+    return flowNodeStatisticsCache.getFlowNodeStatistics(
+        query, () -> aggregateFlowNodeStatistics(query));
+  }
+
+  private Collection<FlowNodeStatisticsDto> aggregateFlowNodeStatistics(ListViewQueryDto query) {
 
     final SearchRequest searchRequest;
     if (!query.isFinished()) {
@@ -33,6 +33,7 @@ import io.camunda.operate.util.CollectionUtil;
 import io.camunda.operate.util.Convertable;
 import io.camunda.operate.util.MapPath;
 import io.camunda.operate.webapp.opensearch.OpenSearchQueryHelper;
+import io.camunda.operate.webapp.reader.FlowNodeStatisticsCache;
 import io.camunda.operate.webapp.reader.FlowNodeStatisticsReader;
 import io.camunda.operate.webapp.rest.dto.FlowNodeStatisticsDto;
 import io.camunda.operate.webapp.rest.dto.listview.ListViewQueryDto;
@@ -57,8 +58,15 @@ public class OpensearchFlowNodeStatisticsReader implements FlowNodeStatisticsRea
 
   @Autowired private RichOpenSearchClient richOpenSearchClient;
 
+  @Autowired private FlowNodeStatisticsCache flowNodeStatisticsCache;
+
   @Override
   public Collection<FlowNodeStatisticsDto> getFlowNodeStatistics(ListViewQueryDto query) {
+    return flowNodeStatisticsCache.getFlowNodeStatistics(
+        query, () -> aggregateFlowNodeStatistics(query));
+  }
+
+  private Collection<FlowNodeStatisticsDto> aggregateFlowNodeStatistics(ListViewQueryDto query) {
     final SearchRequest.Builder searchRequest;
 
     if (!query.isFinished()) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.reader;
+
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.webapp.rest.dto.FlowNodeStatisticsDto;
+import io.camunda.operate.webapp.rest.dto.listview.ListViewQueryDto;
+import io.camunda.operate.webapp.security.identity.IdentityPermission;
+import io.camunda.operate.webapp.security.identity.PermissionsService;
+import io.camunda.operate.webapp.security.identity.PermissionsService.ResourcesAllowed;
+import io.camunda.operate.webapp.security.tenant.TenantService;
+import io.camunda.operate.webapp.security.tenant.TenantService.TenantAccessType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the result of flow node statistics aggregations for a configurable amount of time (see
+ * {@link OperateProperties#getFlowNodeStatisticsCacheTtl()}), so that repeatedly opening or polling
+ * the diagram of a process with many instances does not aggregate over all of them every time.
+ * Results are cached per query and per tenants and process permissions of the current user.
+ */
+@Component
+public class FlowNodeStatisticsCache {
+
+  static final int MAX_ENTRIES = 1_000;
+
+  private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+  private final OperateProperties operateProperties;
+  private final TenantService tenantService;
+  private final PermissionsService permissionsService;
+
+  public FlowNodeStatisticsCache(
+      final OperateProperties operateProperties,
+      final TenantService tenantService,
+      @Nullable final PermissionsService permissionsService) {
+    this.operateProperties = operateProperties;
+    this.tenantService = tenantService;
+    this.permissionsService = permissionsService;
+  }
+
+  public Collection<FlowNodeStatisticsDto> getFlowNodeStatistics(
+      final ListViewQueryDto query, final Supplier<Collection<FlowNodeStatisticsDto>> loader) {
+    final long ttl = operateProperties.getFlowNodeStatisticsCacheTtl();
+    if (ttl <= 0) {
+      return loader.get();
+    }
+
+    final CacheKey key = createKey(query);
+    final long now = System.currentTimeMillis();
+    final CacheEntry cached = entries.get(key);
+    if (cached != null && now - cached.createdAt() < ttl) {
+      return cached.statistics();
+    }
+
+    final List<FlowNodeStatisticsDto> statistics = List.copyOf(loader.get());
+    if (entries.size() >= MAX_ENTRIES) {
+      entries.values().removeIf(entry -> now - entry.createdAt() >= ttl);
+      if (entries.size() >= MAX_ENTRIES) {
+        entries.clear();
+      }
+    }
+    entries.put(key, new CacheEntry(statistics, now));
+    return statistics;
+  }
+
+  private CacheKey createKey(final ListViewQueryDto query) {
+    final var tenants = tenantService.getAuthenticatedTenants();
+    final ResourcesAllowed allowedProcesses =
+        permissionsService == null
+            ? null
+            : permissionsService.getProcessesWithPermission(IdentityPermission.READ);
+    return new CacheKey(
+        query, tenants.getTenantAccessType(), tenants.getTenantIds(), allowedProcesses);
+  }
+
+  private record CacheKey(
+      ListViewQueryDto query,
+      TenantAccessType tenantAccessType,
+      List<String> tenantIds,
+      ResourcesAllowed allowedProcesses) {}
+
+  private record CacheEntry(List<FlowNodeStatisticsDto> statistics, long createdAt) {}
+}
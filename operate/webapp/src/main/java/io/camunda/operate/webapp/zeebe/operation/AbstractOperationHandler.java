@@ -38,12 +38,18 @@ public abstract class AbstractOperationHandler implements OperationHandler {
   @Autowired protected OperateProperties operateProperties;
   @Autowired protected Metrics metrics;
   @Autowired private OperationsManager operationsManager;
+  @Autowired private CommandBackpressureThrottle backpressureThrottle;
 
   @Override
   public void handle(final OperationEntity operation) {
+    backpressureThrottle.awaitCapacity();
     try {
       handleWithException(operation);
+      backpressureThrottle.onCommandAccepted();
     } catch (final Exception ex) {
+      if (isBackpressure(ex)) {
+        backpressureThrottle.onBackpressure();
+      }
       if (isExceptionRetriable(ex)) {
         // leave the operation locked -> when it expires, operation will be retried
         LOGGER.error(
@@ -78,6 +84,11 @@ public abstract class AbstractOperationHandler implements OperationHandler {
     return cause != null && RETRY_STATUSES.contains(cause.getStatus().getCode());
   }
 
+  private boolean isBackpressure(final Exception ex) {
+    final StatusRuntimeException cause = extractStatusRuntimeException(ex);
+    return cause != null && cause.getStatus().getCode() == Status.Code.RESOURCE_EXHAUSTED;
+  }
+
   private StatusRuntimeException extractStatusRuntimeException(final Throwable ex) {
     if (ex.getCause() != null) {
       if (ex.getCause() instanceof StatusRuntimeException) {
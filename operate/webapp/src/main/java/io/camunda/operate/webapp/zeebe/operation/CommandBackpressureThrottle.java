@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.zeebe.operation;
+
+import static io.camunda.operate.util.ThreadUtil.sleepFor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Slows down all operation threads while Zeebe rejects commands with backpressure. The delay before
+ * each operation is doubled with every rejected command and halved with every accepted one, so the
+ * executor converges to the rate the brokers can currently take, instead of sending the whole batch
+ * into rejections and waiting for the operation locks to expire.
+ */
+@Component
+public class CommandBackpressureThrottle {
+
+  static final long MIN_DELAY = 50;
+  static final long MAX_DELAY = 10_000;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CommandBackpressureThrottle.class);
+
+  private long delay;
+
+  public void awaitCapacity() {
+    final long currentDelay = getDelay();
+    if (currentDelay > 0) {
+      sleepFor(currentDelay);
+    }
+  }
+
+  public synchronized void onBackpressure() {
+    delay = delay == 0 ? MIN_DELAY : Math.min(MAX_DELAY, delay * 2);
+    LOGGER.debug("Zeebe rejected command due to backpressure, delay operations by {} ms", delay);
+  }
+
+  public synchronized void onCommandAccepted() {
+    delay = delay <= MIN_DELAY ? 0 : delay / 2;
+  }
+
+  public synchronized long getDelay() {
+    return delay;
+  }
+}
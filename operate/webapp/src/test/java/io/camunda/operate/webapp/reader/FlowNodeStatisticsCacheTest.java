@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.webapp.rest.dto.FlowNodeStatisticsDto;
+import io.camunda.operate.webapp.rest.dto.listview.ListViewQueryDto;
+import io.camunda.operate.webapp.security.tenant.TenantService;
+import io.camunda.operate.webapp.security.tenant.TenantService.AuthenticatedTenants;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class FlowNodeStatisticsCacheTest {
+
+  @Mock private TenantService tenantService;
+
+  private final OperateProperties operateProperties = new OperateProperties();
+  private final AtomicInteger aggregations = new AtomicInteger();
+  private FlowNodeStatisticsCache underTest;
+
+  @BeforeEach
+  public void setup() {
+    underTest = new FlowNodeStatisticsCache(operateProperties, tenantService, null);
+  }
+
+  @Test
+  public void shouldAggregateEveryTimeWhenCacheIsDisabled() {
+    // given
+    final ListViewQueryDto query = new ListViewQueryDto().setBpmnProcessId("process");
+
+    // when
+    underTest.getFlowNodeStatistics(query, loader());
+    underTest.getFlowNodeStatistics(query, loader());
+
+    // then
+    assertThat(aggregations).hasValue(2);
+  }
+
+  @Test
+  public void shouldServeSameQueryFromCache() {
+    // given
+    operateProperties.setFlowNodeStatisticsCacheTtl(60_000);
+    when(tenantService.getAuthenticatedTenants()).thenReturn(AuthenticatedTenants.allTenants());
+
+    // when
+    final Collection<FlowNodeStatisticsDto> first =
+        underTest.getFlowNodeStatistics(
+            new ListViewQueryDto().setBpmnProcessId("process"), loader());
+    final Collection<FlowNodeStatisticsDto> second =
+        underTest.getFlowNodeStatistics(
+            new ListViewQueryDto().setBpmnProcessId("process"), loader());
+
+    // then
+    assertThat(aggregations).hasValue(1);
+    assertThat(second).isEqualTo(first);
+  }
+
+  @Test
+  public void shouldNotShareResultsBetweenQueries() {
+    // given
+    operateProperties.setFlowNodeStatisticsCacheTtl(60_000);
+    when(tenantService.getAuthenticatedTenants()).thenReturn(AuthenticatedTenants.allTenants());
+
+    // when
+    underTest.getFlowNodeStatistics(new ListViewQueryDto().setBpmnProcessId("one"), loader());
+    underTest.getFlowNodeStatistics(new ListViewQueryDto().setBpmnProcessId("two"), loader());
+
+    // then
+    assertThat(aggregations).hasValue(2);
+  }
+
+  @Test
+  public void shouldNotShareResultsBetweenTenants() {
+    // given
+    operateProperties.setFlowNodeStatisticsCacheTtl(60_000);
+    when(tenantService.getAuthenticatedTenants())
+        .thenReturn(AuthenticatedTenants.assignedTenants(List.of("tenant-a")))
+        .thenReturn(AuthenticatedTenants.assignedTenants(List.of("tenant-b")));
+    final ListViewQueryDto query = new ListViewQueryDto().setBpmnProcessId("process");
+
+    // when
+    underTest.getFlowNodeStatistics(query, loader());
+    underTest.getFlowNodeStatistics(query, loader());
+
+    // then
+    assertThat(aggregations).hasValue(2);
+  }
+
+  private Supplier<Collection<FlowNodeStatisticsDto>> loader() {
+    return () -> {
+      aggregations.incrementAndGet();
+      final var statistics = new FlowNodeStatisticsDto("task");
+      statistics.addActive(1L);
+      return List.of(statistics);
+    };
+  }
+}
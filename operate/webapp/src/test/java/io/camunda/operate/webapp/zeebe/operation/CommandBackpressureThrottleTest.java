@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.zeebe.operation;
+
+import static io.camunda.operate.webapp.zeebe.operation.CommandBackpressureThrottle.MAX_DELAY;
+import static io.camunda.operate.webapp.zeebe.operation.CommandBackpressureThrottle.MIN_DELAY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandBackpressureThrottleTest {
+
+  private final CommandBackpressureThrottle underTest = new CommandBackpressureThrottle();
+
+  @Test
+  public void shouldNotDelayWithoutBackpressure() {
+    // when
+    underTest.onCommandAccepted();
+
+    // then
+    assertThat(underTest.getDelay()).isZero();
+  }
+
+  @Test
+  public void shouldIncreaseDelayOnBackpressure() {
+    // when
+    underTest.onBackpressure();
+    underTest.onBackpressure();
+
+    // then
+    assertThat(underTest.getDelay()).isEqualTo(MIN_DELAY * 2);
+  }
+
+  @Test
+  public void shouldCapDelay() {
+    // when
+    for (int i = 0; i < 100; i++) {
+      underTest.onBackpressure();
+    }
+
+    // then
+    assertThat(underTest.getDelay()).isEqualTo(MAX_DELAY);
+  }
+
+  @Test
+  public void shouldDecreaseDelayWhenCommandsAreAccepted() {
+    // given
+    underTest.onBackpressure();
+    underTest.onBackpressure();
+
+    // when
+    underTest.onCommandAccepted();
+
+    // then
+    assertThat(underTest.getDelay()).isEqualTo(MIN_DELAY);
+
+    // when
+    underTest.onCommandAccepted();
+
+    // then
+    assertThat(underTest.getDelay()).isZero();
+  }
+}
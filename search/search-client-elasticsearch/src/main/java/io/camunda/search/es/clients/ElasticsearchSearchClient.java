@@ -7,6 +7,7 @@
  */
 package io.camunda.search.es.clients;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
@@ -19,10 +20,13 @@ import io.camunda.search.es.transformers.search.SearchResponseTransformer;
 import io.camunda.search.transformers.SearchTransfomer;
 import io.camunda.zeebe.util.Either;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public final class ElasticsearchSearchClient implements CamundaSearchClient {
 
   private final ElasticsearchClient client;
+  private final ElasticsearchAsyncClient asyncClient;
   private final ElasticsearchTransformers transformers;
 
   public ElasticsearchSearchClient(final ElasticsearchClient client) {
@@ -32,6 +36,8 @@ public final class ElasticsearchSearchClient implements CamundaSearchClient {
   public ElasticsearchSearchClient(
       final ElasticsearchClient client, final ElasticsearchTransformers transformers) {
     this.client = client;
+    // shares the transport of the blocking client, so no additional connections are opened
+    asyncClient = new ElasticsearchAsyncClient(client._transport(), client._transportOptions());
     this.transformers = transformers;
   }
 
@@ -52,6 +58,27 @@ public final class ElasticsearchSearchClient implements CamundaSearchClient {
     }
   }
 
+  @Override
+  public <T> CompletableFuture<Either<Exception, SearchQueryResponse<T>>> searchAsync(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass) {
+    final var requestTransformer = getSearchRequestTransformer();
+    final var request = requestTransformer.apply(searchRequest);
+    return asyncClient.search(request, documentClass).handle(this::toSearchQueryResponse);
+  }
+
+  private <T> Either<Exception, SearchQueryResponse<T>> toSearchQueryResponse(
+      final SearchResponse<T> rawSearchResponse, final Throwable error) {
+    if (error != null) {
+      final var cause =
+          error instanceof CompletionException && error.getCause() != null
+              ? error.getCause()
+              : error;
+      return Either.left(cause instanceof final Exception e ? e : new CompletionException(cause));
+    }
+    final SearchResponseTransformer<T> searchResponseTransformer = getSearchResponseTransformer();
+    return Either.right(searchResponseTransformer.apply(rawSearchResponse));
+  }
+
   private SearchTransfomer<SearchQueryRequest, SearchRequest> getSearchRequestTransformer() {
     return transformers.getTransformer(SearchQueryRequest.class);
   }
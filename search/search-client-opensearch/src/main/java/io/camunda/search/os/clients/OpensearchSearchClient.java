@@ -15,6 +15,9 @@ import io.camunda.search.os.transformers.search.SearchResponseTransformer;
 import io.camunda.search.transformers.SearchTransfomer;
 import io.camunda.zeebe.util.Either;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch.core.SearchRequest;
@@ -23,6 +26,7 @@ import org.opensearch.client.opensearch.core.SearchResponse;
 public final class OpensearchSearchClient implements CamundaSearchClient {
 
   private final OpenSearchClient client;
+  private final OpenSearchAsyncClient asyncClient;
   private final OpensearchTransformers transformers;
 
   public OpensearchSearchClient(final OpenSearchClient client) {
@@ -32,6 +36,8 @@ public final class OpensearchSearchClient implements CamundaSearchClient {
   public OpensearchSearchClient(
       final OpenSearchClient client, final OpensearchTransformers transformers) {
     this.client = client;
+    // shares the transport of the blocking client, so no additional connections are opened
+    asyncClient = new OpenSearchAsyncClient(client._transport(), client._transportOptions());
     this.transformers = transformers;
   }
 
@@ -52,6 +58,33 @@ public final class OpensearchSearchClient implements CamundaSearchClient {
     }
   }
 
+  @Override
+  public <T> CompletableFuture<Either<Exception, SearchQueryResponse<T>>> searchAsync(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass) {
+    final CompletableFuture<SearchResponse<T>> rawSearchResponse;
+    try {
+      final var requestTransformer = getSearchRequestTransformer();
+      final var request = requestTransformer.apply(searchRequest);
+      rawSearchResponse = asyncClient.search(request, documentClass);
+    } catch (final IOException | OpenSearchException e) {
+      return CompletableFuture.completedFuture(Either.left(e));
+    }
+    return rawSearchResponse.handle(this::toSearchQueryResponse);
+  }
+
+  private <T> Either<Exception, SearchQueryResponse<T>> toSearchQueryResponse(
+      final SearchResponse<T> rawSearchResponse, final Throwable error) {
+    if (error != null) {
+      final var cause =
+          error instanceof CompletionException && error.getCause() != null
+              ? error.getCause()
+              : error;
+      return Either.left(cause instanceof final Exception e ? e : new CompletionException(cause));
+    }
+    final SearchResponseTransformer<T> searchResponseTransformer = getSearchResponseTransformer();
+    return Either.right(searchResponseTransformer.apply(rawSearchResponse));
+  }
+
   private SearchTransfomer<SearchQueryRequest, SearchRequest> getSearchRequestTransformer() {
     return transformers.getTransformer(SearchQueryRequest.class);
   }
@@ -13,6 +13,7 @@ import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.clients.core.SearchQueryResponse;
 import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.util.Either;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 public interface CamundaSearchClient extends AutoCloseable {
@@ -25,4 +26,13 @@ public interface CamundaSearchClient extends AutoCloseable {
       final Class<T> documentClass) {
     return search(searchRequest(fn), documentClass);
   }
+
+  /**
+   * Executes the search without blocking the calling thread. Clients that don't provide a
+   * non-blocking transport execute the search synchronously and return a completed future.
+   */
+  default <T> CompletableFuture<Either<Exception, SearchQueryResponse<T>>> searchAsync(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass) {
+    return CompletableFuture.completedFuture(search(searchRequest, documentClass));
+  }
 }
@@ -17,6 +17,7 @@ import io.camunda.service.security.auth.Authentication;
 import io.camunda.service.transformers.ServiceTransformers;
 import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 public final class ProcessInstanceServices
@@ -46,6 +47,11 @@ public final class ProcessInstanceServices
     return executor.search(query, ProcessInstanceEntity.class);
   }
 
+  public CompletableFuture<SearchQueryResult<ProcessInstanceEntity>> searchAsync(
+      final ProcessInstanceQuery query) {
+    return executor.searchAsync(query, ProcessInstanceEntity.class);
+  }
+
   public SearchQueryResult<ProcessInstanceEntity> search(
       final Function<ProcessInstanceQuery.Builder, ObjectBuilder<ProcessInstanceQuery>> fn) {
     return search(SearchQueryBuilders.processInstanceSearchQuery(fn));
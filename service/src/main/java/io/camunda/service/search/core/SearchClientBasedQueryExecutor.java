@@ -8,6 +8,7 @@
 package io.camunda.service.search.core;
 
 import io.camunda.search.clients.CamundaSearchClient;
+import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.clients.query.SearchQuery;
 import io.camunda.service.search.filter.FilterBase;
 import io.camunda.service.search.query.SearchQueryResult;
@@ -19,6 +20,7 @@ import io.camunda.service.transformers.filter.AuthenticationTransformer;
 import io.camunda.service.transformers.filter.FilterTransformer;
 import io.camunda.service.transformers.query.SearchQueryResultTransformer;
 import io.camunda.service.transformers.query.TypedSearchQueryTransformer;
+import java.util.concurrent.CompletableFuture;
 
 public final class SearchClientBasedQueryExecutor {
 
@@ -37,9 +39,7 @@ public final class SearchClientBasedQueryExecutor {
 
   public <T extends FilterBase, S extends SortOption, R> SearchQueryResult<R> search(
       final TypedSearchQuery<T, S> query, final Class<R> documentClass) {
-    final var authCheck = getAuthenticationCheckIfPresent();
-    final var transformer = getSearchQueryRequestTransformer(query);
-    final var searchRequest = transformer.applyWithAuthentication(query, authCheck);
+    final var searchRequest = toSearchQueryRequest(query);
 
     final SearchQueryResultTransformer<R> responseTransformer = getSearchResultTransformer();
     return searchClient
@@ -51,6 +51,30 @@ public final class SearchClientBasedQueryExecutor {
             });
   }
 
+  public <T extends FilterBase, S extends SortOption, R>
+      CompletableFuture<SearchQueryResult<R>> searchAsync(
+          final TypedSearchQuery<T, S> query, final Class<R> documentClass) {
+    final var searchRequest = toSearchQueryRequest(query);
+
+    final SearchQueryResultTransformer<R> responseTransformer = getSearchResultTransformer();
+    return searchClient
+        .searchAsync(searchRequest, documentClass)
+        .thenApply(
+            response ->
+                response.fold(
+                    responseTransformer::apply,
+                    (e) -> {
+                      throw rethrowRuntimeException(e);
+                    }));
+  }
+
+  private <T extends FilterBase, S extends SortOption> SearchQueryRequest toSearchQueryRequest(
+      final TypedSearchQuery<T, S> query) {
+    final var authCheck = getAuthenticationCheckIfPresent();
+    final var transformer = getSearchQueryRequestTransformer(query);
+    return transformer.applyWithAuthentication(query, authCheck);
+  }
+
   private SearchQuery getAuthenticationCheckIfPresent() {
     if (authentication != null) {
       final var transformer = getAuthenticationTransformer();
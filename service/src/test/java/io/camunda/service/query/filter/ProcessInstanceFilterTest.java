@@ -94,6 +94,22 @@ public final class ProcessInstanceFilterTest {
     assertThat(item.key()).isEqualTo(123L);
   }
 
+  @Test
+  public void shouldReturnProcessInstanceAsync() {
+    // given
+    final ProcessInstanceQuery searchQuery =
+        SearchQueryBuilders.processInstanceSearchQuery().build();
+
+    // when
+    final SearchQueryResult<ProcessInstanceEntity> searchQueryResult =
+        services.searchAsync(searchQuery).join();
+
+    // then
+    assertThat(searchQueryResult.total()).isEqualTo(1);
+    assertThat(searchQueryResult.items()).hasSize(1);
+    assertThat(searchQueryResult.items().get(0).key()).isEqualTo(123L);
+  }
+
   @Test
   public void shouldQueryByProcessInstanceKey() {
     // given
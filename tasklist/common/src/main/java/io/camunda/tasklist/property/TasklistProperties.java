@@ -52,6 +52,12 @@ public class TasklistProperties {
   /** Maximum size of batch operation. */
   private Long batchOperationMaxSize = BATCH_OPERATION_MAX_SIZE_DEFAULT;
 
+  /**
+   * How long (in milliseconds) the result of a task search may be served from cache to other
+   * requests with the same query and tenants. 0 disables the cache.
+   */
+  private long taskSearchCacheTtl = 0;
+
   private boolean enterprise = false;
 
   @Value("${camunda.tasklist.internal.version.current}")
@@ -132,6 +138,14 @@ public class TasklistProperties {
     this.batchOperationMaxSize = batchOperationMaxSize;
   }
 
+  public long getTaskSearchCacheTtl() {
+    return taskSearchCacheTtl;
+  }
+
+  public void setTaskSearchCacheTtl(final long taskSearchCacheTtl) {
+    this.taskSearchCacheTtl = taskSearchCacheTtl;
+  }
+
   public boolean isAlphaVersion() {
     return getVersion().toLowerCase().contains(TasklistProperties.ALPHA_RELEASES_SUFIX);
   }
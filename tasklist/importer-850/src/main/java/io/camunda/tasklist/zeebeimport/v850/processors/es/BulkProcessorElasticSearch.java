@@ -80,7 +80,12 @@ public class BulkProcessorElasticSearch extends AbstractImportBatchProcessorElas
 
     LOGGER.debug("Writing [{}] Zeebe records to Elasticsearch", zeebeRecords.size());
 
-    for (Record record : zeebeRecords) {
+    // only the last value of a variable within the batch needs to be written
+    final List<Record> recordsToProcess =
+        importValueType == ImportValueType.VARIABLE
+            ? variableZeebeRecordProcessor.getLatestVariableRecords(zeebeRecords)
+            : zeebeRecords;
+    for (Record record : recordsToProcess) {
       switch (importValueType) {
         case PROCESS_INSTANCE:
           processInstanceZeebeRecordProcessor.processProcessInstanceRecord(record, bulkRequest);
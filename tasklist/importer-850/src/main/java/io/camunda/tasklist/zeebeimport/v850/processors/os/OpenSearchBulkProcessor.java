@@ -78,7 +78,12 @@ public class OpenSearchBulkProcessor extends AbstractImportBatchProcessorOpenSea
     final ImportValueType importValueType = importBatch.getImportValueType();
 
     LOGGER.debug("Writing [{}] Zeebe records to OpenSearch", zeebeRecords.size());
-    for (Record record : zeebeRecords) {
+    // only the last value of a variable within the batch needs to be written
+    final List<Record> recordsToProcess =
+        importValueType == ImportValueType.VARIABLE
+            ? variableZeebeRecordProcessor.getLatestVariableRecords(zeebeRecords)
+            : zeebeRecords;
+    for (Record record : recordsToProcess) {
       switch (importValueType) {
         case PROCESS_INSTANCE:
           processInstanceZeebeRecordProcessor.processProcessInstanceRecord(record, operations);
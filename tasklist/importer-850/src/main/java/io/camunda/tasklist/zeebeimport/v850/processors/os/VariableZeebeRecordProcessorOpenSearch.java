@@ -36,6 +36,25 @@ public class VariableZeebeRecordProcessorOpenSearch {
 
   @Autowired private TasklistProperties tasklistProperties;
 
+  /**
+   * Returns the last record per variable (scope and name) of the given batch, as only the final
+   * value of the batch ends up in the variable document. Migration records are skipped, as they
+   * don't change the value.
+   */
+  public List<Record> getLatestVariableRecords(final List<Record> records) {
+    final Map<String, Record> latestRecords = new LinkedHashMap<>();
+    for (final Record record : records) {
+      if (record.getIntent().name() != Intent.MIGRATED.name()) {
+        final VariableRecordValueImpl recordValue = (VariableRecordValueImpl) record.getValue();
+        latestRecords.put(
+            VariableEntity.getIdBy(
+                String.valueOf(recordValue.getScopeKey()), recordValue.getName()),
+            record);
+      }
+    }
+    return new ArrayList<>(latestRecords.values());
+  }
+
   public void processVariableRecord(Record record, List<BulkOperation> operations)
       throws PersistenceException {
     final VariableRecordValueImpl recordValue = (VariableRecordValueImpl) record.getValue();
@@ -81,7 +81,12 @@ public class BulkProcessorElasticSearch extends AbstractImportBatchProcessorElas
 
     LOGGER.debug("Writing [{}] Zeebe records to Elasticsearch", zeebeRecords.size());
 
-    for (final Record record : zeebeRecords) {
+    // only the last value of a variable within the batch needs to be written
+    final List<Record> recordsToProcess =
+        importValueType == ImportValueType.VARIABLE
+            ? variableZeebeRecordProcessor.getLatestVariableRecords(zeebeRecords)
+            : zeebeRecords;
+    for (final Record record : recordsToProcess) {
       switch (importValueType) {
         case PROCESS_INSTANCE:
           processInstanceZeebeRecordProcessor.processProcessInstanceRecord(record, bulkRequest);
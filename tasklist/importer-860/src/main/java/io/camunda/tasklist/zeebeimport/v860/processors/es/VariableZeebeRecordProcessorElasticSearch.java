@@ -18,7 +18,10 @@ import io.camunda.tasklist.zeebeimport.v860.record.Intent;
 import io.camunda.tasklist.zeebeimport.v860.record.value.VariableRecordValueImpl;
 import io.camunda.zeebe.protocol.record.Record;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.update.UpdateRequest;
@@ -43,6 +46,25 @@ public class VariableZeebeRecordProcessorElasticSearch {
 
   @Autowired private TasklistProperties tasklistProperties;
 
+  /**
+   * Returns the last record per variable (scope and name) of the given batch, as only the final
+   * value of the batch ends up in the variable document. Migration records are skipped, as they
+   * don't change the value.
+   */
+  public List<Record> getLatestVariableRecords(final List<Record> records) {
+    final Map<String, Record> latestRecords = new LinkedHashMap<>();
+    for (final Record record : records) {
+      if (record.getIntent().name() != Intent.MIGRATED.name()) {
+        final VariableRecordValueImpl recordValue = (VariableRecordValueImpl) record.getValue();
+        latestRecords.put(
+            VariableEntity.getIdBy(
+                String.valueOf(recordValue.getScopeKey()), recordValue.getName()),
+            record);
+      }
+    }
+    return new ArrayList<>(latestRecords.values());
+  }
+
   public void processVariableRecord(final Record record, final BulkRequest bulkRequest)
       throws PersistenceException {
     final VariableRecordValueImpl recordValue = (VariableRecordValueImpl) record.getValue();
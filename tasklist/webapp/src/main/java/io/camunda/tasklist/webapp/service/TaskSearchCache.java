@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.webapp.service;
+
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.queries.TaskQuery;
+import io.camunda.tasklist.views.TaskSearchView;
+import io.camunda.tasklist.webapp.security.tenant.TenantService;
+import io.camunda.tasklist.webapp.security.tenant.TenantService.AuthenticatedTenants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache for task search results. Many users polling the same task list (e.g. the same
+ * candidate group) issue identical queries, which are answered from here for {@link
+ * TasklistProperties#getTaskSearchCacheTtl()} milliseconds. Results are keyed by the complete query
+ * (including pagination cursors and candidate user/group restrictions) and the authenticated
+ * tenants. The cache is invalidated when a task is changed through this instance.
+ */
+@Component
+public class TaskSearchCache {
+
+  static final int MAX_ENTRIES = 10_000;
+
+  private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+  private final TasklistProperties tasklistProperties;
+  private final TenantService tenantService;
+
+  public TaskSearchCache(
+      final TasklistProperties tasklistProperties, final TenantService tenantService) {
+    this.tasklistProperties = tasklistProperties;
+    this.tenantService = tenantService;
+  }
+
+  public List<TaskSearchView> getTasks(
+      final TaskQuery query, final Supplier<List<TaskSearchView>> loader) {
+    final long ttl = tasklistProperties.getTaskSearchCacheTtl();
+    if (ttl <= 0) {
+      return loader.get();
+    }
+
+    final CacheKey key = new CacheKey(query, tenantService.getAuthenticatedTenants());
+    final long now = System.currentTimeMillis();
+    final CacheEntry cached = entries.get(key);
+    if (cached != null && now - cached.createdAt() < ttl) {
+      return new ArrayList<>(cached.tasks());
+    }
+
+    final List<TaskSearchView> tasks = loader.get();
+    if (entries.size() >= MAX_ENTRIES) {
+      entries.values().removeIf(entry -> now - entry.createdAt() >= ttl);
+      if (entries.size() >= MAX_ENTRIES) {
+        entries.clear();
+      }
+    }
+    entries.put(key, new CacheEntry(List.copyOf(tasks), now));
+    return tasks;
+  }
+
+  public void invalidate() {
+    entries.clear();
+  }
+
+  private record CacheKey(TaskQuery query, AuthenticatedTenants tenants) {}
+
+  private record CacheEntry(List<TaskSearchView> tasks, long createdAt) {}
+}
@@ -17,6 +17,7 @@ import io.camunda.tasklist.Metrics;
 import io.camunda.tasklist.entities.TaskEntity;
 import io.camunda.tasklist.entities.TaskImplementation;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
+import io.camunda.tasklist.queries.TaskQuery;
 import io.camunda.tasklist.store.TaskMetricsStore;
 import io.camunda.tasklist.store.TaskStore;
 import io.camunda.tasklist.store.VariableStore;
@@ -55,6 +56,7 @@ public class TaskService {
 
   @Autowired private TaskStore taskStore;
   @Autowired private VariableService variableService;
+  @Autowired private TaskSearchCache taskSearchCache;
 
   @Autowired
   @Qualifier("tasklistObjectMapper")
@@ -94,7 +96,9 @@ public class TaskService {
               TaskImplementation.ZEEBE_USER_TASK, TaskImplementation.JOB_WORKER));
     }
 
-    final List<TaskSearchView> tasks = taskStore.getTasks(query.toTaskQuery());
+    final TaskQuery taskQuery = query.toTaskQuery();
+    final List<TaskSearchView> tasks =
+        taskSearchCache.getTasks(taskQuery, () -> taskStore.getTasks(taskQuery));
     final Set<String> fieldNames =
         fetchFullValuesFromDB
             ? emptySet()
@@ -166,6 +170,7 @@ public class TaskService {
     }
 
     final TaskEntity claimedTask = taskStore.persistTaskClaim(taskBefore, taskAssignee);
+    taskSearchCache.invalidate();
     updateClaimedMetric(claimedTask);
     return TaskDTO.createFrom(claimedTask, objectMapper);
   }
@@ -211,6 +216,7 @@ public class TaskService {
 
       // persist completion and variables
       final TaskEntity completedTaskEntity = taskStore.persistTaskCompletion(task);
+      taskSearchCache.invalidate();
       try {
         LOGGER.info("Start variable persistence: {}", taskId);
         variableService.persistTaskVariables(taskId, variables, withDraftVariableValues);
@@ -263,6 +269,7 @@ public class TaskService {
     final TaskEntity taskBefore = taskStore.getTask(taskId);
     taskValidator.validateCanUnassign(taskBefore);
     final TaskEntity taskEntity = taskStore.persistTaskUnclaim(taskBefore);
+    taskSearchCache.invalidate();
     if (taskBefore.getImplementation().equals(TaskImplementation.ZEEBE_USER_TASK)) {
       try {
         zeebeClient.newUserTaskUnassignCommand(taskBefore.getKey()).send().join();
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.webapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.queries.TaskQuery;
+import io.camunda.tasklist.views.TaskSearchView;
+import io.camunda.tasklist.webapp.security.tenant.TenantService;
+import io.camunda.tasklist.webapp.security.tenant.TenantService.AuthenticatedTenants;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchCacheTest {
+
+  @Mock private TenantService tenantService;
+
+  private final TasklistProperties tasklistProperties = new TasklistProperties();
+  private final AtomicInteger searches = new AtomicInteger();
+  private TaskSearchCache instance;
+
+  @BeforeEach
+  void setUp() {
+    instance = new TaskSearchCache(tasklistProperties, tenantService);
+  }
+
+  @Test
+  void shouldSearchEveryTimeWhenCacheIsDisabled() {
+    // given
+    final var query = new TaskQuery().setCandidateGroup("group");
+
+    // when
+    instance.getTasks(query, loader());
+    instance.getTasks(query, loader());
+
+    // then
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void shouldServeSameQueryFromCache() {
+    // given
+    tasklistProperties.setTaskSearchCacheTtl(60_000);
+    when(tenantService.getAuthenticatedTenants()).thenReturn(AuthenticatedTenants.allTenants());
+
+    // when
+    final var first = instance.getTasks(new TaskQuery().setCandidateGroup("group"), loader());
+    final var second = instance.getTasks(new TaskQuery().setCandidateGroup("group"), loader());
+
+    // then
+    assertThat(searches).hasValue(1);
+    assertThat(second).isEqualTo(first);
+  }
+
+  @Test
+  void shouldNotShareResultsBetweenTenants() {
+    // given
+    tasklistProperties.setTaskSearchCacheTtl(60_000);
+    when(tenantService.getAuthenticatedTenants())
+        .thenReturn(AuthenticatedTenants.assignedTenants(List.of("tenant-a")))
+        .thenReturn(AuthenticatedTenants.assignedTenants(List.of("tenant-b")));
+    final var query = new TaskQuery().setCandidateGroup("group");
+
+    // when
+    instance.getTasks(query, loader());
+    instance.getTasks(query, loader());
+
+    // then
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void shouldSearchAgainAfterInvalidation() {
+    // given
+    tasklistProperties.setTaskSearchCacheTtl(60_000);
+    when(tenantService.getAuthenticatedTenants()).thenReturn(AuthenticatedTenants.allTenants());
+    final var query = new TaskQuery().setCandidateGroup("group");
+    instance.getTasks(query, loader());
+
+    // when
+    instance.invalidate();
+    instance.getTasks(query, loader());
+
+    // then
+    assertThat(searches).hasValue(2);
+  }
+
+  private Supplier<List<TaskSearchView>> loader() {
+    return () -> {
+      searches.incrementAndGet();
+      return List.of(new TaskSearchView().setId("task"));
+    };
+  }
+}
@@ -33,6 +33,11 @@ public class MessagingConfig implements Config {
   private File certificateChain;
   private File privateKey;
   private CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.NONE;
+  private boolean flushConsolidationEnabled = false;
+  private int explicitFlushAfterFlushes = 256;
+  private boolean nativeTransportEnabled = true;
+  private boolean unicastNativeTransportEnabled = false;
+  private int maxMessageSize = Integer.MAX_VALUE;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -147,6 +152,115 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * @return true if flushes on a channel are consolidated, such that several messages are written
+   *     to the socket with a single syscall
+   */
+  public boolean isFlushConsolidationEnabled() {
+    return flushConsolidationEnabled;
+  }
+
+  /**
+   * Sets whether flushes on a channel should be consolidated. When enabled, messages which are
+   * written to the same channel within one event loop iteration are flushed together, which reduces
+   * the number of syscalls under high load at the cost of a slight delay per message.
+   *
+   * @param flushConsolidationEnabled true to consolidate flushes, false to flush every message
+   * @return this config for chaining
+   */
+  public MessagingConfig setFlushConsolidationEnabled(final boolean flushConsolidationEnabled) {
+    this.flushConsolidationEnabled = flushConsolidationEnabled;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of flushes which are consolidated before flushing explicitly
+   */
+  public int getExplicitFlushAfterFlushes() {
+    return explicitFlushAfterFlushes;
+  }
+
+  /**
+   * Sets the maximum number of flushes which are consolidated before an explicit flush is done.
+   * Only has an effect if {@link #isFlushConsolidationEnabled()} is true.
+   *
+   * @param explicitFlushAfterFlushes the maximum number of consolidated flushes, must be positive
+   * @return this config for chaining
+   * @throws IllegalArgumentException if the given number is not positive
+   */
+  public MessagingConfig setExplicitFlushAfterFlushes(final int explicitFlushAfterFlushes) {
+    if (explicitFlushAfterFlushes <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected explicitFlushAfterFlushes to be positive, but was %d",
+              explicitFlushAfterFlushes));
+    }
+
+    this.explicitFlushAfterFlushes = explicitFlushAfterFlushes;
+    return this;
+  }
+
+  /**
+   * @return true if the native epoll transport is used when available, false to always use NIO
+   */
+  public boolean isNativeTransportEnabled() {
+    return nativeTransportEnabled;
+  }
+
+  /**
+   * Sets whether the native epoll transport should be used for messaging when it is available, i.e.
+   * on Linux. If it is not available, NIO is used regardless of this setting. Enabled by default.
+   *
+   * @param nativeTransportEnabled true to use epoll when available, false to always use NIO
+   * @return this config for chaining
+   */
+  public MessagingConfig setNativeTransportEnabled(final boolean nativeTransportEnabled) {
+    this.nativeTransportEnabled = nativeTransportEnabled;
+    return this;
+  }
+
+  /**
+   * @return true if the unicast service uses the native epoll transport when available, false to
+   *     always use NIO
+   */
+  public boolean isUnicastNativeTransportEnabled() {
+    return unicastNativeTransportEnabled;
+  }
+
+  /**
+   * Sets whether the native epoll transport should be used for unicast when it is available, i.e.
+   * on Linux. If it is not available, NIO is used regardless of this setting. Disabled by default,
+   * as the unicast service has always used NIO.
+   *
+   * @param unicastNativeTransportEnabled true to use epoll when available, false to always use NIO
+   * @return this config for chaining
+   */
+  public MessagingConfig setUnicastNativeTransportEnabled(
+      final boolean unicastNativeTransportEnabled) {
+    this.unicastNativeTransportEnabled = unicastNativeTransportEnabled;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a message payload which this node accepts
+   */
+  public int getMaxMessageSize() {
+    return maxMessageSize;
+  }
+
+  /**
+   * Sets the maximum size in bytes of a message payload which this node accepts. A peer announcing
+   * a larger payload is considered faulty and its connection is closed before any memory is
+   * allocated for the payload. Unbounded by default.
+   *
+   * @param maxMessageSize the maximum payload size in bytes
+   * @return this config for chaining
+   */
+  public MessagingConfig setMaxMessageSize(final int maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+    return this;
+  }
+
   /**
    * The certificate chain to use for inter-cluster communication. This certificate is used for both
    * the server and the client.
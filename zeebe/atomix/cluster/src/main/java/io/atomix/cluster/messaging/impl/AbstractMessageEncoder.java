@@ -30,6 +30,11 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  // type, message id, payload length and reply status, with variable length encoded numbers
+  private static final int MAX_MESSAGE_HEADER_LENGTH = Byte.BYTES + 9 + 5 + Byte.BYTES;
+  // host length (or IP length) and port, excluding the host itself
+  private static final int MAX_ADDRESS_LENGTH = Short.BYTES + Integer.BYTES;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -48,14 +53,12 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   protected abstract void encodeReply(ProtocolReply reply, ByteBuf out);
 
   static void writeString(final ByteBuf buffer, final String value) {
-    final ByteBuf buf = buffer.alloc().buffer(ByteBufUtil.utf8MaxBytes(value));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, value);
-      buffer.writeShort(length);
-      buffer.writeBytes(buf);
-    } finally {
-      buf.release();
-    }
+    // the encoded length is only known after writing, so reserve its place and fill it in after,
+    // instead of encoding into a temporary buffer and copying it over
+    final int lengthIndex = buffer.writerIndex();
+    buffer.writeShort(0);
+    final int length = ByteBufUtil.writeUtf8(buffer, value);
+    buffer.setShort(lengthIndex, length);
   }
 
   static void writeInt(final ByteBuf buf, final int value) {
@@ -159,6 +162,25 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     return msg instanceof ProtocolMessage;
   }
 
+  /**
+   * Allocates an output buffer which is large enough for the whole message, such that it does not
+   * have to be grown (and copied) repeatedly while writing large payloads.
+   */
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext context, final Object rawMessage, final boolean preferDirect) {
+    final ProtocolMessage message = (ProtocolMessage) rawMessage;
+    int capacity = MAX_MESSAGE_HEADER_LENGTH + message.payload().length;
+    if (!addressWritten) {
+      capacity += MAX_ADDRESS_LENGTH + ByteBufUtil.utf8MaxBytes(address.host());
+    }
+    if (message instanceof final ProtocolRequest request) {
+      capacity += Short.BYTES + ByteBufUtil.utf8MaxBytes(request.subject());
+    }
+
+    return preferDirect ? context.alloc().ioBuffer(capacity) : context.alloc().heapBuffer(capacity);
+  }
+
   @Override
   protected void encode(
       final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Counts the messages which are written between two flushes, i.e. how many messages end up in a
+ * single write syscall. Must be placed between the socket and the {@link
+ * io.netty.handler.flush.FlushConsolidationHandler}, such that it only sees the consolidated
+ * flushes. Each channel requires its own instance, as the handler is only accessed from the
+ * channel's event loop and is not thread safe.
+ */
+final class FlushMetricsHandler extends ChannelOutboundHandlerAdapter {
+
+  private final MessagingMetrics metrics;
+  private int pendingMessages;
+
+  FlushMetricsHandler(final MessagingMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise)
+      throws Exception {
+    pendingMessages++;
+    super.write(ctx, msg, promise);
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext ctx) throws Exception {
+    if (pendingMessages > 0) {
+      metrics.observeMessagesPerFlush(pendingMessages);
+      pendingMessages = 0;
+    }
+
+    super.flush(ctx);
+  }
+}
@@ -21,11 +21,20 @@ import static com.google.common.base.Preconditions.checkState;
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.TooLongFrameException;
+import java.util.Arrays;
 import java.util.List;
 
 /** Protocol version 2 message decoder. */
 class MessageDecoderV2 extends AbstractMessageDecoder {
 
+  // payloads up to this size are allocated at once when their length is read; larger ones grow
+  // with the received bytes, so a bogus length prefix cannot make us allocate a huge array upfront
+  private static final int MAX_INITIAL_CONTENT_CAPACITY = 1024 * 1024;
+
+  private final int maxContentLength;
   private DecoderState currentState = DecoderState.READ_SENDER_HOST_LENGTH;
   private int senderHostLength;
   private String senderHost;
@@ -35,14 +44,24 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
   private long messageId;
   private int contentLength;
   private byte[] content;
+  private int contentOffset;
   private int subjectLength;
 
+  MessageDecoderV2(final int maxContentLength) {
+    this.maxContentLength = maxContentLength;
+  }
+
   @Override
   @SuppressWarnings({"squid:S128"}) // suppress switch fall through warning
   protected void decode(
       final ChannelHandlerContext context, final ByteBuf buffer, final List<Object> out)
       throws Exception {
 
+    if (currentState == DecoderState.DISCARD) {
+      buffer.skipBytes(buffer.readableBytes());
+      return;
+    }
+
     switch (currentState) {
       case READ_SENDER_HOST_LENGTH:
         if (buffer.readableBytes() < Short.BYTES) {
@@ -82,18 +101,36 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         } catch (final Escape e) {
           return;
         }
+        if (contentLength < 0) {
+          throw discard(
+              buffer,
+              new CorruptedFrameException(
+                  "Expected a non-negative message length, but got " + contentLength));
+        }
+        if (contentLength > maxContentLength) {
+          throw discard(
+              buffer,
+              new TooLongFrameException(
+                  "Expected message of at most %d bytes, but got %d bytes"
+                      .formatted(maxContentLength, contentLength)));
+        }
+        content =
+            contentLength > 0
+                ? new byte[Math.min(contentLength, MAX_INITIAL_CONTENT_CAPACITY)]
+                : EMPTY_PAYLOAD;
+        contentOffset = 0;
         currentState = DecoderState.READ_CONTENT;
       case READ_CONTENT:
-        if (buffer.readableBytes() < contentLength) {
+        // copy the content as it arrives, instead of waiting for the whole payload; this way the
+        // cumulation buffer does not have to grow to the size of the payload, which would mean
+        // copying the received bytes several times for large messages
+        final int contentBytes = Math.min(buffer.readableBytes(), contentLength - contentOffset);
+        ensureContentCapacity(contentOffset + contentBytes);
+        buffer.readBytes(content, contentOffset, contentBytes);
+        contentOffset += contentBytes;
+        if (contentOffset < contentLength) {
           return;
         }
-        if (contentLength > 0) {
-          // TODO: Perform a sanity check on the size before allocating
-          content = new byte[contentLength];
-          buffer.readBytes(content);
-        } else {
-          content = EMPTY_PAYLOAD;
-        }
 
         switch (type) {
           case REQUEST:
@@ -127,6 +164,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
             final ProtocolRequest message =
                 new ProtocolRequest(messageId, senderAddress, subject, content);
             out.add(message);
+            content = null;
             currentState = DecoderState.READ_TYPE;
             break;
           default:
@@ -142,6 +180,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
             final ProtocolReply.Status status = ProtocolReply.Status.forId(buffer.readByte());
             final ProtocolReply message = new ProtocolReply(messageId, content, status);
             out.add(message);
+            content = null;
             currentState = DecoderState.READ_TYPE;
             break;
           default:
@@ -153,6 +192,22 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     }
   }
 
+  // the stream cannot be resynchronized after a bad frame, so drop everything that follows until
+  // the channel is closed
+  private DecoderException discard(final ByteBuf buffer, final DecoderException error) {
+    buffer.skipBytes(buffer.readableBytes());
+    currentState = DecoderState.DISCARD;
+    return error;
+  }
+
+  private void ensureContentCapacity(final int capacity) {
+    if (content.length < capacity) {
+      final int newCapacity =
+          (int) Math.min(contentLength, Math.max(capacity, 2L * content.length));
+      content = Arrays.copyOf(content, newCapacity);
+    }
+  }
+
   /** V2 decoder state. */
   enum DecoderState {
     READ_TYPE,
@@ -164,6 +219,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     READ_SUBJECT,
     READ_STATUS,
     READ_CONTENT_LENGTH,
-    READ_CONTENT
+    READ_CONTENT,
+    DISCARD
   }
 }
@@ -60,6 +60,24 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Histogram MESSAGES_PER_FLUSH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_messages_per_flush")
+          .help(
+              "The number of messages which were written to the socket with a single flush, when"
+                  + " flush consolidation is enabled")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
+  private static final Gauge TRANSPORT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("messaging_transport")
+          .help("Set to 1 for the network transport (epoll or nio) which is used by a service")
+          .labelNames("service", "transport")
+          .register();
+
   @Override
   public CloseableSilently startRequestTimer(final String name) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
@@ -100,4 +118,14 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void observeMessagesPerFlush(final int messageCount) {
+    MESSAGES_PER_FLUSH.observe(messageCount);
+  }
+
+  @Override
+  public void setTransport(final String service, final String transport) {
+    TRANSPORT.labels(service, transport).set(1);
+  }
 }
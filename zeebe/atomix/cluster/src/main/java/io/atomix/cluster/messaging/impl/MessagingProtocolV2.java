@@ -23,9 +23,11 @@ import io.netty.handler.codec.MessageToByteEncoder;
 /** V2 messaging protocol. */
 public class MessagingProtocolV2 implements MessagingProtocol {
   private final Address address;
+  private final int maxMessageSize;
 
-  MessagingProtocolV2(final Address address) {
+  MessagingProtocolV2(final Address address, final int maxMessageSize) {
     this.address = address;
+    this.maxMessageSize = maxMessageSize;
   }
 
   @Override
@@ -40,6 +42,6 @@ public class MessagingProtocolV2 implements MessagingProtocol {
 
   @Override
   public ByteToMessageDecoder newDecoder() {
-    return new MessageDecoderV2();
+    return new MessageDecoderV2(maxMessageSize);
   }
 }
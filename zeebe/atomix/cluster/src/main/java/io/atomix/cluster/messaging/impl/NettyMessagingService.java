@@ -59,6 +59,7 @@ import io.netty.handler.codec.compression.SnappyFrameDecoder;
 import io.netty.handler.codec.compression.SnappyFrameEncoder;
 import io.netty.handler.codec.compression.ZlibCodecFactory;
 import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
@@ -394,10 +395,11 @@ public final class NettyMessagingService implements ManagedMessagingService {
               started.set(true);
 
               log.info(
-                  "Started messaging service bound to {}, advertising {}, and using {}",
+                  "Started messaging service bound to {}, advertising {}, and using {} over {}",
                   bindingAddresses,
                   advertisedAddress,
-                  config.isTlsEnabled() ? "TLS" : "plaintext");
+                  config.isTlsEnabled() ? "TLS" : "plaintext",
+                  serverChannelClass.getSimpleName());
             })
         .thenApply(v -> this);
   }
@@ -501,10 +503,17 @@ public final class NettyMessagingService implements ManagedMessagingService {
   }
 
   private void initTransport() {
-    if (Epoll.isAvailable()) {
+    if (config.isNativeTransportEnabled() && Epoll.isAvailable()) {
       initEpollTransport();
+      messagingMetrics.setTransport("messaging", "epoll");
     } else {
+      if (config.isNativeTransportEnabled()) {
+        log.info(
+            "Native epoll transport is not available, falling back to NIO: {}",
+            String.valueOf(Epoll.unavailabilityCause()));
+      }
       initNioTransport();
+      messagingMetrics.setTransport("messaging", "nio");
     }
   }
 
@@ -848,6 +857,25 @@ public final class NettyMessagingService implements ManagedMessagingService {
     }
   }
 
+  /**
+   * Consolidates flushes on the given channel, if enabled. Messages are written and flushed one by
+   * one by the connections; consolidating the flushes allows writing all messages which were
+   * written in the same event loop iteration with a single syscall. Flushes are also consolidated
+   * when no read is in progress, since most writes originate outside the event loop.
+   */
+  private void addFlushConsolidation(final SocketChannel channel) {
+    if (!config.isFlushConsolidationEnabled()) {
+      return;
+    }
+
+    channel.pipeline().addLast("flushMetrics", new FlushMetricsHandler(messagingMetrics));
+    channel
+        .pipeline()
+        .addLast(
+            "flushConsolidation",
+            new FlushConsolidationHandler(config.getExplicitFlushAfterFlushes(), true));
+  }
+
   /** Channel initializer for basic connections. */
   private class BasicClientChannelInitializer extends ChannelInitializer<SocketChannel> {
 
@@ -864,6 +892,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
         channel.pipeline().addLast("tls", sslHandler);
       }
 
+      addFlushConsolidation(channel);
       channel.pipeline().addLast("handshake", new ClientHandshakeHandlerAdapter(future));
 
       switch (config.getCompressionAlgorithm()) {
@@ -900,6 +929,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
         channel.pipeline().addLast("tls", sslHandler);
       }
 
+      addFlushConsolidation(channel);
       channel.pipeline().addLast("handshake", new ServerHandshakeHandlerAdapter());
 
       switch (config.getCompressionAlgorithm()) {
@@ -968,7 +998,8 @@ public final class NettyMessagingService implements ManagedMessagingService {
         final ChannelHandlerContext context,
         final Connection<M> connection,
         final ProtocolVersion protocolVersion) {
-      final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
+      final MessagingProtocol protocol =
+          protocolVersion.createProtocol(advertisedAddress, config.getMaxMessageSize());
       context.pipeline().remove(this);
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
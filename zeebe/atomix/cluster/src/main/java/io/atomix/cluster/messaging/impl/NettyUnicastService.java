@@ -35,6 +35,9 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.DefaultMaxBytesRecvByteBufAllocator;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.DatagramPacket;
@@ -79,6 +82,7 @@ public class NettyUnicastService implements ManagedUnicastService {
   private final Address bindAddress;
 
   private EventLoopGroup group;
+  private Class<? extends DatagramChannel> datagramChannelClass;
   private DatagramChannel channel;
 
   private DnsAddressResolverGroup dnsAddressResolverGroup;
@@ -146,11 +150,24 @@ public class NettyUnicastService implements ManagedUnicastService {
     }
   }
 
+  private void initTransport() {
+    final var metrics = new MessagingMetricsImpl();
+    if (config.isUnicastNativeTransportEnabled() && Epoll.isAvailable()) {
+      group = new EpollEventLoopGroup(0, namedThreads("netty-unicast-event-epoll-client-%d", log));
+      datagramChannelClass = EpollDatagramChannel.class;
+      metrics.setTransport("unicast", "epoll");
+    } else {
+      group = new NioEventLoopGroup(0, namedThreads("netty-unicast-event-nio-client-%d", log));
+      datagramChannelClass = NioDatagramChannel.class;
+      metrics.setTransport("unicast", "nio");
+    }
+  }
+
   private CompletableFuture<Void> bootstrap() {
     final Bootstrap serverBootstrap =
         new Bootstrap()
             .group(group)
-            .channel(NioDatagramChannel.class)
+            .channel(datagramChannelClass)
             .handler(
                 new SimpleChannelInboundHandler<DatagramPacket>() {
                   @Override
@@ -207,7 +224,7 @@ public class NettyUnicastService implements ManagedUnicastService {
 
   @Override
   public CompletableFuture<UnicastService> start() {
-    group = new NioEventLoopGroup(0, namedThreads("netty-unicast-event-nio-client-%d", log));
+    initTransport();
     return bootstrap()
         .thenRun(
             () -> {
@@ -220,14 +237,15 @@ public class NettyUnicastService implements ManagedUnicastService {
                               new BiDnsQueryLifecycleObserverFactory(
                                   ignored -> metrics,
                                   new LoggingDnsQueryLifeCycleObserverFactory()))
-                          .channelType(NioDatagramChannel.class));
+                          .channelType(datagramChannelClass));
             })
         .thenApply(
             v -> {
               log.info(
-                  "Started plaintext unicast service bound to {}, advertising {}",
+                  "Started plaintext unicast service bound to {}, advertising {}, over {}",
                   bindAddress,
-                  advertisedAddress);
+                  advertisedAddress,
+                  datagramChannelClass.getSimpleName());
               return this;
             });
   }
@@ -23,14 +23,14 @@ import java.util.stream.Stream;
 public enum ProtocolVersion {
   V1(1) {
     @Override
-    public MessagingProtocol createProtocol(final Address address) {
+    public MessagingProtocol createProtocol(final Address address, final int maxMessageSize) {
       return new MessagingProtocolV1(address);
     }
   },
   V2(2) {
     @Override
-    public MessagingProtocol createProtocol(final Address address) {
-      return new MessagingProtocolV2(address);
+    public MessagingProtocol createProtocol(final Address address, final int maxMessageSize) {
+      return new MessagingProtocolV2(address, maxMessageSize);
     }
   };
 
@@ -72,7 +72,8 @@ public enum ProtocolVersion {
    * Creates a new protocol instance.
    *
    * @param address the protocol address
+   * @param maxMessageSize the maximum size in bytes of a received message payload
    * @return a new protocol instance
    */
-  public abstract MessagingProtocol createProtocol(Address address);
+  public abstract MessagingProtocol createProtocol(Address address, int maxMessageSize);
 }
@@ -47,6 +47,7 @@ public final class RaftMemberContext {
   private int inFlightAppendCount;
   private boolean appendSucceeded;
   private long appendTime;
+  private boolean appendScheduled;
   private boolean configuring;
   private boolean installing;
   private int failures;
@@ -157,6 +158,55 @@ public final class RaftMemberContext {
                     >= appendTime));
   }
 
+  /**
+   * Returns the time in milliseconds until the next pipelined append request can be sent to the
+   * member. Pipelined requests are spread over the mean append latency, so while there is room in
+   * the window of in-flight requests the next one may still have to wait. Returns 0 if there is no
+   * such delay, either because an append can be sent right away or because none can be sent until a
+   * response is received.
+   *
+   * @return The delay in milliseconds until the next pipelined append request can be sent.
+   */
+  public long getAppendDelay() {
+    if (!open
+        || inFlightAppendCount == 0
+        || !appendSucceeded
+        || inFlightAppendCount >= maxAppendsPerMember) {
+      return 0;
+    }
+
+    final var nextAppendTime = appendTime + timeStats.getMean() / maxAppendsPerMember;
+    return Math.max(0, (long) Math.ceil(nextAppendTime - System.currentTimeMillis()));
+  }
+
+  /**
+   * Returns a boolean indicating whether a delayed append request can be scheduled for the member.
+   *
+   * @return Indicates whether a delayed append request can be scheduled for the member.
+   */
+  public boolean canScheduleAppend() {
+    return open && !appendScheduled && getAppendDelay() > 0;
+  }
+
+  /** Marks that a delayed append request is scheduled for the member. */
+  public void startScheduledAppend() {
+    appendScheduled = true;
+  }
+
+  /** Marks that the scheduled append request for the member is due. */
+  public void completeScheduledAppend() {
+    appendScheduled = false;
+  }
+
+  /**
+   * Returns the number of append requests to the member which are still awaiting a response.
+   *
+   * @return The number of in-flight append requests.
+   */
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
+  }
+
   /**
    * Returns whether a heartbeat can be sent to the member.
    *
@@ -276,6 +326,7 @@ public final class RaftMemberContext {
         .add("appending", inFlightAppendCount)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
+        .add("appendScheduled", appendScheduled)
         .add("configuring", configuring)
         .add("installing", installing)
         .add("failures", failures)
@@ -54,6 +54,13 @@ public class LeaderMetrics extends RaftMetrics {
           .help("The number of non-replicated entries for a given followers")
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
+  private static final Gauge IN_FLIGHT_APPENDS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_entries_in_flight")
+          .help("The number of append requests to a follower which await a response")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
   private static final Counter COMMIT_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -88,6 +95,10 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeInFlightAppends(final String memberId, final int inFlightAppends) {
+    IN_FLIGHT_APPENDS.labels(memberId, partitionGroupName, partition).set(inFlightAppends);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
@@ -17,6 +17,7 @@
 package io.atomix.raft.metrics;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 
 public class RaftRequestMetrics extends RaftMetrics {
 
@@ -36,6 +37,24 @@ public class RaftRequestMetrics extends RaftMetrics {
           .labelNames("to", "type", PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
 
+  private static final Histogram APPEND_COMPRESSION_RATIO =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("raft_append_compression_ratio")
+          .help("Ratio of compressed to uncompressed size of sent append requests")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(0.05, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.8, 1.0)
+          .register();
+
+  private static final Histogram APPEND_COMPRESSION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("raft_append_compression_time")
+          .help("Time in seconds spent compressing sent append requests")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05)
+          .register();
+
   public RaftRequestMetrics(final String partitionName) {
     super(partitionName);
   }
@@ -47,4 +66,14 @@ public class RaftRequestMetrics extends RaftMetrics {
   public void sendMessage(final String memberId, final String type) {
     RAFT_MESSAGES_SEND.labels(memberId, type, partitionGroupName, partition).inc();
   }
+
+  public void observeAppendCompression(
+      final int uncompressedBytes, final int compressedBytes, final long compressionNanos) {
+    APPEND_COMPRESSION_RATIO
+        .labels(partitionGroupName, partition)
+        .observe((double) compressedBytes / uncompressedBytes);
+    APPEND_COMPRESSION_TIME
+        .labels(partitionGroupName, partition)
+        .observe(compressionNanos / 1_000_000_000d);
+  }
 }
@@ -30,6 +30,7 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_APPEND_COMPRESSION_THRESHOLD = 4 * 1024;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -45,6 +46,8 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private boolean appendCompressionEnabled;
+  private int appendCompressionThreshold = DEFAULT_APPEND_COMPRESSION_THRESHOLD;
 
   /**
    * Returns the Raft leader election timeout.
@@ -152,6 +155,34 @@ public class RaftPartitionConfig {
     this.configurationChangeTimeout = configurationChangeTimeout;
   }
 
+  public boolean isAppendCompressionEnabled() {
+    return appendCompressionEnabled;
+  }
+
+  /**
+   * Sets whether append requests are compressed before they are sent to followers. Followers which
+   * don't support compressed append requests yet receive them uncompressed.
+   *
+   * @param appendCompressionEnabled true to compress append requests
+   */
+  public void setAppendCompressionEnabled(final boolean appendCompressionEnabled) {
+    this.appendCompressionEnabled = appendCompressionEnabled;
+  }
+
+  public int getAppendCompressionThreshold() {
+    return appendCompressionThreshold;
+  }
+
+  /**
+   * Sets the minimum size in bytes of a serialized append request to be compressed. Smaller
+   * requests, like heartbeats, are not worth the CPU time.
+   *
+   * @param appendCompressionThreshold the minimum size in bytes of compressed append requests
+   */
+  public void setAppendCompressionThreshold(final int appendCompressionThreshold) {
+    this.appendCompressionThreshold = appendCompressionThreshold;
+  }
+
   public int getMinStepDownFailureCount() {
     return minStepDownFailureCount;
   }
@@ -236,6 +267,10 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", appendCompressionEnabled="
+        + appendCompressionEnabled
+        + ", appendCompressionThreshold="
+        + appendCompressionThreshold
         + '}';
   }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses serialized raft messages before they are sent. The compressed message starts with the
+ * length of the uncompressed message, followed by the deflated content. Compression uses the
+ * fastest level, since the goal is to save network bandwidth between zones without making the
+ * leader CPU bound.
+ */
+final class RaftMessageCompression {
+
+  private static final int LENGTH_PREFIX = Integer.BYTES;
+  // deflate cannot expand a stream by more than ~1032:1, so any longer announced length is bogus
+  private static final int MAX_COMPRESSION_RATIO = 1032;
+  private static final int INFLATE_CHUNK_SIZE = 64 * 1024;
+
+  private RaftMessageCompression() {}
+
+  static byte[] compress(final byte[] message) {
+    final var deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(message);
+      deflater.finish();
+
+      var compressed = ByteBuffer.allocate(LENGTH_PREFIX + message.length / 2 + 64);
+      compressed.putInt(message.length);
+      while (!deflater.finished()) {
+        if (!compressed.hasRemaining()) {
+          compressed = ByteBuffer.allocate(compressed.capacity() * 2).put(compressed.flip());
+        }
+        deflater.deflate(compressed);
+      }
+
+      final var bytes = new byte[compressed.position()];
+      compressed.flip().get(bytes);
+      return bytes;
+    } finally {
+      deflater.end();
+    }
+  }
+
+  static byte[] decompress(final byte[] compressed) {
+    final var content = ByteBuffer.wrap(compressed);
+    final var length = content.getInt();
+    if (length < 0 || length > (long) content.remaining() * MAX_COMPRESSION_RATIO) {
+      throw new IllegalArgumentException(
+          "Expected a message length between 0 and %d bytes for %d compressed bytes, but got %d"
+              .formatted(
+                  (long) content.remaining() * MAX_COMPRESSION_RATIO, content.remaining(), length));
+    }
+
+    // grow the output with the inflated bytes instead of trusting the announced length upfront
+    var message = new byte[Math.min(length, INFLATE_CHUNK_SIZE)];
+    final var inflater = new Inflater();
+    try {
+      inflater.setInput(content);
+      var inflatedLength = 0;
+      while (inflatedLength < length && !inflater.finished()) {
+        if (inflatedLength == message.length) {
+          message = Arrays.copyOf(message, (int) Math.min(length, 2L * message.length));
+        }
+        final var inflated =
+            inflater.inflate(message, inflatedLength, message.length - inflatedLength);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        inflatedLength += inflated;
+      }
+
+      if (inflatedLength < length) {
+        throw new IllegalArgumentException(
+            "Expected to decompress a message of %d bytes, but it was truncated after %d bytes"
+                .formatted(length, inflatedLength));
+      }
+      return message;
+    } catch (final DataFormatException e) {
+      throw new IllegalArgumentException("Failed to decompress message", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
@@ -37,6 +37,7 @@ class RaftMessageContext {
   final String voteSubject;
   final String appendV1subject;
   final String appendV2subject;
+  final String appendV2CompressedSubject;
   final String leaderHeartbeatSubject;
 
   RaftMessageContext(final String prefix) {
@@ -58,6 +59,7 @@ class RaftMessageContext {
     voteSubject = getSubject(prefix, "vote");
     appendV1subject = getSubject(prefix, "append");
     appendV2subject = getSubject(prefix, "append-versioned");
+    appendV2CompressedSubject = getSubject(prefix, "append-versioned-compressed");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
@@ -314,7 +314,9 @@ public class RaftPartitionServer implements HealthMonitorable {
         clusterCommunicator,
         requestTimeout,
         snapshotRequestTimeout,
-        configurationChangeTimeout);
+        configurationChangeTimeout,
+        config.isAppendCompressionEnabled(),
+        config.getAppendCompressionThreshold());
   }
 
   public CompletableFuture<Void> stepDown() {
@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -45,12 +46,17 @@ import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  private static final Duration APPEND_COMPRESSION_RETRY_INTERVAL = Duration.ofMinutes(1);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
   private final ClusterCommunicationService clusterCommunicator;
@@ -58,6 +64,11 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   private final Duration requestTimeout;
   private final Duration snapshotRequestTimeout;
   private final Duration configurationChangeTimeout;
+  private final boolean appendCompressionEnabled;
+  private final int appendCompressionThreshold;
+  // members which rejected compressed append requests, e.g. during a rolling update, mapped to the
+  // time of the rejection
+  private final Map<MemberId, Long> membersWithoutAppendCompression = new ConcurrentHashMap<>();
 
   public RaftServerCommunicator(
       final String prefix,
@@ -66,6 +77,26 @@ public class RaftServerCommunicator implements RaftServerProtocol {
       final Duration requestTimeout,
       final Duration snapshotRequestTimeout,
       final Duration configurationChangeTimeout) {
+    this(
+        prefix,
+        serializer,
+        clusterCommunicator,
+        requestTimeout,
+        snapshotRequestTimeout,
+        configurationChangeTimeout,
+        false,
+        0);
+  }
+
+  public RaftServerCommunicator(
+      final String prefix,
+      final Serializer serializer,
+      final ClusterCommunicationService clusterCommunicator,
+      final Duration requestTimeout,
+      final Duration snapshotRequestTimeout,
+      final Duration configurationChangeTimeout,
+      final boolean appendCompressionEnabled,
+      final int appendCompressionThreshold) {
     context = new RaftMessageContext(prefix);
     this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
     this.clusterCommunicator =
@@ -73,6 +104,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     this.requestTimeout = requestTimeout;
     this.snapshotRequestTimeout = snapshotRequestTimeout;
     this.configurationChangeTimeout = configurationChangeTimeout;
+    this.appendCompressionEnabled = appendCompressionEnabled;
+    this.appendCompressionThreshold = appendCompressionThreshold;
     metrics = new RaftRequestMetrics(prefix);
   }
 
@@ -137,7 +170,31 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    final byte[] encoded = serializer.encode(request);
+    if (!appendCompressionEnabled
+        || encoded.length < appendCompressionThreshold
+        || !canCompressAppendFor(memberId)) {
+      return sendAndReceiveEncoded(context.appendV2subject, request, encoded, memberId);
+    }
+
+    final long startTime = System.nanoTime();
+    final byte[] compressed = RaftMessageCompression.compress(encoded);
+    metrics.observeAppendCompression(
+        encoded.length, compressed.length, System.nanoTime() - startTime);
+
+    return this.<VersionedAppendRequest, AppendResponse>sendAndReceiveEncoded(
+            context.appendV2CompressedSubject, request, compressed, memberId)
+        .exceptionallyCompose(
+            error -> {
+              final var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (cause instanceof MessagingException.NoRemoteHandler) {
+                // the member doesn't know compressed append requests yet, e.g. because it runs an
+                // older version; stop compressing for it until the next retry
+                membersWithoutAppendCompression.put(memberId, System.currentTimeMillis());
+                return sendAndReceiveEncoded(context.appendV2subject, request, encoded, memberId);
+              }
+              return CompletableFuture.failedFuture(error);
+            });
   }
 
   @Override
@@ -293,12 +350,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendV2CompressedSubject,
+        bytes -> serializer.decode(RaftMessageCompression.decompress(bytes)),
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendV2CompressedSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -313,6 +376,25 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         subject, request, serializer::encode, serializer::decode, memberId, timeout);
   }
 
+  private boolean canCompressAppendFor(final MemberId memberId) {
+    final var rejectedAt = membersWithoutAppendCompression.get(memberId);
+    if (rejectedAt == null) {
+      return true;
+    }
+    if (System.currentTimeMillis() - rejectedAt >= APPEND_COMPRESSION_RETRY_INTERVAL.toMillis()) {
+      membersWithoutAppendCompression.remove(memberId);
+      return true;
+    }
+    return false;
+  }
+
+  private <T, U> CompletableFuture<U> sendAndReceiveEncoded(
+      final String subject, final T request, final byte[] encoded, final MemberId memberId) {
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator.send(
+        subject, request, ignored -> encoded, serializer::decode, memberId, requestTimeout);
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
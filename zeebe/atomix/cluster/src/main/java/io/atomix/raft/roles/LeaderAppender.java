@@ -45,6 +45,7 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -206,6 +207,8 @@ final class LeaderAppender {
 
     // Start the append to the member.
     member.startAppend();
+    metrics.observeInFlightAppends(
+        member.getMember().memberId().id(), member.getInFlightAppendCount());
 
     final long timestamp = System.currentTimeMillis();
 
@@ -223,6 +226,8 @@ final class LeaderAppender {
                 } else {
                   member.completeAppend();
                 }
+                metrics.observeInFlightAppends(
+                    member.getMember().memberId().id(), member.getInFlightAppendCount());
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
@@ -878,9 +883,30 @@ final class LeaderAppender {
       replicateSnapshot(member);
     } else if (member.canAppend()) {
       replicateEvents(member);
+    } else if (hasMoreEntries(member) && member.canScheduleAppend()) {
+      scheduleAppend(member);
     }
   }
 
+  /**
+   * Schedules the next pipelined append to the member for when its pacing delay has passed. Without
+   * this, a lagging follower only gets its next batch once a response arrives or new entries are
+   * appended, which reduces the pipeline to a single in-flight request when there is no new load,
+   * e.g. when the follower catches up over a high latency link.
+   */
+  private void scheduleAppend(final RaftMemberContext member) {
+    member.startScheduledAppend();
+    raft.getThreadContext()
+        .schedule(
+            Duration.ofMillis(member.getAppendDelay()),
+            () -> {
+              member.completeScheduledAppend();
+              if (open && hasMoreEntries(member)) {
+                appendEntries(member);
+              }
+            });
+  }
+
   private boolean shouldReplicateSnapshot(final RaftMemberContext member) {
     final var persistedSnapshot = raft.getCurrentSnapshot();
     if (persistedSnapshot == null) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.impl.ProtocolReply.Status;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class MessageDecoderV2Test {
+
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+
+  @Test
+  void shouldDecodeLargeRequestReceivedInChunks() {
+    // given
+    final byte[] payload = new byte[3 * 1024 * 1024 + 17];
+    new Random().nextBytes(payload);
+    final var request = new ProtocolRequest(1, ADDRESS, "subject", payload);
+    final ByteBuf encoded = encode(request, new ProtocolReply(2, new byte[0], Status.OK));
+    final var decoder = new EmbeddedChannel(new MessageDecoderV2(Integer.MAX_VALUE));
+
+    // when
+    while (encoded.isReadable()) {
+      decoder.writeInbound(encoded.readRetainedSlice(Math.min(1500, encoded.readableBytes())));
+    }
+    encoded.release();
+
+    // then
+    final ProtocolRequest decodedRequest = decoder.readInbound();
+    assertThat(decodedRequest.id()).isEqualTo(1);
+    assertThat(decodedRequest.sender()).isEqualTo(ADDRESS);
+    assertThat(decodedRequest.subject()).isEqualTo("subject");
+    assertThat(decodedRequest.payload()).isEqualTo(payload);
+
+    final ProtocolReply decodedReply = decoder.readInbound();
+    assertThat(decodedReply.id()).isEqualTo(2);
+    assertThat(decodedReply.status()).isEqualTo(Status.OK);
+    assertThat(decodedReply.payload()).isEmpty();
+    assertThat(decoder.finish()).isFalse();
+  }
+
+  @Test
+  void shouldEncodeMultiByteSubject() {
+    // given
+    final var request = new ProtocolRequest(1, ADDRESS, "sübjéct-ü", new byte[] {1, 2, 3});
+    final ByteBuf encoded = encode(request);
+    final var decoder = new EmbeddedChannel(new MessageDecoderV2(Integer.MAX_VALUE));
+
+    // when
+    decoder.writeInbound(encoded);
+
+    // then
+    final ProtocolRequest decodedRequest = decoder.readInbound();
+    assertThat(decodedRequest.subject()).isEqualTo("sübjéct-ü");
+    assertThat(decodedRequest.payload()).containsExactly(1, 2, 3);
+    assertThat(decoder.finish()).isFalse();
+  }
+
+  @Test
+  void shouldRejectMessageAboveMaxSize() {
+    // given
+    final var request = new ProtocolRequest(1, ADDRESS, "subject", new byte[1025]);
+    final var decoder = new EmbeddedChannel(new MessageDecoderV2(1024));
+
+    // when
+    decoder.writeInbound(encode(request));
+
+    // then
+    assertThat(decoder.isOpen()).isFalse();
+    assertThat((Object) decoder.readInbound()).isNull();
+  }
+
+  @Test
+  void shouldRejectNegativeMessageLength() {
+    // given
+    final ByteBuf header = Unpooled.buffer();
+    AbstractMessageEncoder.writeString(header, ADDRESS.host());
+    header.writeInt(ADDRESS.port());
+    header.writeByte(ProtocolMessage.Type.REQUEST.id());
+    AbstractMessageEncoder.writeLong(header, 1);
+    AbstractMessageEncoder.writeInt(header, -1);
+    final var decoder = new EmbeddedChannel(new MessageDecoderV2(Integer.MAX_VALUE));
+
+    // when
+    decoder.writeInbound(header);
+
+    // then
+    assertThat(decoder.isOpen()).isFalse();
+    assertThat((Object) decoder.readInbound()).isNull();
+  }
+
+  private ByteBuf encode(final ProtocolMessage... messages) {
+    final var encoder = new EmbeddedChannel(new MessageEncoderV2(ADDRESS));
+    encoder.writeOutbound((Object[]) messages);
+
+    final CompositeByteBuf encoded = Unpooled.compositeBuffer();
+    ByteBuf chunk;
+    while ((chunk = encoder.readOutbound()) != null) {
+      encoded.addComponent(true, chunk);
+    }
+    encoder.finishAndReleaseAll();
+    return encoded;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.atomix.cluster.messaging.ManagedMessagingService;
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class NettyMessagingServiceFlushConsolidationTest {
+
+  private ManagedMessagingService senderNetty;
+  private ManagedMessagingService receiverNetty;
+
+  @AfterEach
+  void tearDown() {
+    if (senderNetty != null) {
+      senderNetty.stop().join();
+    }
+    if (receiverNetty != null) {
+      receiverNetty.stop().join();
+    }
+  }
+
+  @Test
+  void shouldSendAndReceiveMessagesWhenFlushConsolidationEnabled() {
+    // given
+    final var config =
+        new MessagingConfig()
+            .setShutdownQuietPeriod(Duration.ofMillis(50))
+            .setFlushConsolidationEnabled(true);
+    final var senderAddress = nextAddress();
+    final var receiverAddress = nextAddress();
+    senderNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", senderAddress, config).start().join();
+    receiverNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", receiverAddress, config).start().join();
+    receiverNetty.registerHandler(
+        "subject", (sender, payload) -> CompletableFuture.completedFuture(payload));
+
+    // when
+    final var responses =
+        IntStream.range(0, 1_000)
+            .mapToObj(
+                i ->
+                    senderNetty.sendAndReceive(
+                        receiverAddress, "subject", String.valueOf(i).getBytes()))
+            .toList();
+
+    // then
+    assertThat(responses)
+        .extracting(response -> new String(response.join()))
+        .containsExactlyElementsOf(IntStream.range(0, 1_000).mapToObj(String::valueOf).toList());
+  }
+
+  @Test
+  void shouldObserveAllMessagesWrittenWithOneConsolidatedFlush() {
+    // given
+    final var metrics = mock(MessagingMetrics.class);
+    final var channel =
+        new EmbeddedChannel(
+            new FlushMetricsHandler(metrics),
+            new FlushConsolidationHandler(256, true),
+            new ChannelInboundHandlerAdapter() {
+              @Override
+              public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                ctx.writeAndFlush(msg);
+              }
+            });
+
+    // when - replying to every message read in one read loop
+    channel.writeInbound("a", "b", "c");
+
+    // then
+    verify(metrics).observeMessagesPerFlush(3);
+    assertThat(channel.outboundMessages()).containsExactly("a", "b", "c");
+    channel.finishAndReleaseAll();
+  }
+
+  private static Address nextAddress() {
+    final var address = SocketUtil.getNextAddress();
+    return Address.from(address.getHostName(), address.getPort());
+  }
+}
@@ -51,6 +51,37 @@ public class NettyUnicastServiceTest extends ConcurrentTestCase {
     await(5000);
   }
 
+  @Test
+  public void testUnicastWithNativeTransport() throws Exception {
+    // given
+    final var config = new MessagingConfig().setUnicastNativeTransportEnabled(true);
+    final var nativeAddress1 = Address.from("127.0.0.1", SocketUtil.getNextAddress().getPort());
+    final var nativeAddress2 = Address.from("127.0.0.1", SocketUtil.getNextAddress().getPort());
+    final var nativeService1 = new NettyUnicastService("testClusterId", nativeAddress1, config);
+    final var nativeService2 = new NettyUnicastService("testClusterId", nativeAddress2, config);
+    nativeService1.start().join();
+    nativeService2.start().join();
+
+    try {
+      nativeService1.addListener(
+          "test",
+          (address, payload) -> {
+            assertThat(address).isEqualTo(nativeAddress2);
+            assertThat(payload).containsExactly("Hello world!".getBytes());
+            resume();
+          });
+
+      // when
+      nativeService2.unicast(nativeAddress1, "test", "Hello world!".getBytes());
+
+      // then
+      await(5000);
+    } finally {
+      CloseHelper.quietCloseAll(
+          () -> nativeService1.stop().join(), () -> nativeService2.stop().join());
+    }
+  }
+
   @Test
   public void shouldNotThrowExceptionWhenServiceStopped() {
     // given
@@ -205,6 +205,12 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void observeMessagesPerFlush(final int messageCount) {}
+
+    @Override
+    public void setTransport(final String service, final String transport) {}
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private static final int MAX_APPENDS = 2;
+  private static final long APPEND_LATENCY = 10_000;
+
+  private final RaftMemberContext member =
+      new RaftMemberContext(
+          new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now()),
+          mock(RaftClusterContext.class),
+          MAX_APPENDS);
+
+  @Test
+  void shouldNotDelayFirstAppend() {
+    // then
+    assertThat(member.canAppend()).isTrue();
+    assertThat(member.getAppendDelay()).isZero();
+    assertThat(member.canScheduleAppend()).isFalse();
+  }
+
+  @Test
+  void shouldDelayPipelinedAppendByPartOfTheAppendLatency() {
+    // given
+    member.startAppend();
+    member.completeAppend(APPEND_LATENCY);
+    member.appendSucceeded();
+
+    // when
+    member.startAppend();
+
+    // then
+    assertThat(member.canAppend()).isFalse();
+    assertThat(member.getAppendDelay()).isPositive().isLessThanOrEqualTo(APPEND_LATENCY / 2);
+    assertThat(member.canScheduleAppend()).isTrue();
+  }
+
+  @Test
+  void shouldScheduleOnlyOneAppendAtATime() {
+    // given
+    member.startAppend();
+    member.completeAppend(APPEND_LATENCY);
+    member.appendSucceeded();
+    member.startAppend();
+
+    // when
+    member.startScheduledAppend();
+
+    // then
+    assertThat(member.canScheduleAppend()).isFalse();
+    member.completeScheduledAppend();
+    assertThat(member.canScheduleAppend()).isTrue();
+  }
+
+  @Test
+  void shouldNotDelayAppendWhenWindowIsFull() {
+    // given
+    member.startAppend();
+    member.completeAppend(APPEND_LATENCY);
+    member.appendSucceeded();
+
+    // when
+    for (int i = 0; i < MAX_APPENDS; i++) {
+      member.startAppend();
+    }
+
+    // then
+    assertThat(member.getInFlightAppendCount()).isEqualTo(MAX_APPENDS);
+    assertThat(member.getAppendDelay()).isZero();
+    assertThat(member.canScheduleAppend()).isFalse();
+  }
+
+  @Test
+  void shouldNotDelayAppendAfterFailedAppend() {
+    // given
+    member.startAppend();
+    member.completeAppend(APPEND_LATENCY);
+    member.appendFailed();
+
+    // when
+    member.startAppend();
+
+    // then
+    assertThat(member.getAppendDelay()).isZero();
+    assertThat(member.canScheduleAppend()).isFalse();
+  }
+}
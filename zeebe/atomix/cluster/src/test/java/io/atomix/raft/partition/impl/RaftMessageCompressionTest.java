@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class RaftMessageCompressionTest {
+
+  @Test
+  void shouldCompressRepetitiveMessage() {
+    // given
+    final var message =
+        "{\"bpmnProcessId\":\"process\",\"elementId\":\"task\",\"variables\":{}}"
+            .repeat(100)
+            .getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final var compressed = RaftMessageCompression.compress(message);
+
+    // then
+    assertThat(compressed.length).isLessThan(message.length / 10);
+    assertThat(RaftMessageCompression.decompress(compressed)).isEqualTo(message);
+  }
+
+  @Test
+  void shouldDecompressIncompressibleMessage() {
+    // given
+    final var message = new byte[64 * 1024];
+    new Random(42).nextBytes(message);
+
+    // when
+    final var compressed = RaftMessageCompression.compress(message);
+
+    // then
+    assertThat(RaftMessageCompression.decompress(compressed)).isEqualTo(message);
+  }
+
+  @Test
+  void shouldDecompressEmptyMessage() {
+    // when
+    final var compressed = RaftMessageCompression.compress(new byte[0]);
+
+    // then
+    assertThat(RaftMessageCompression.decompress(compressed)).isEmpty();
+  }
+
+  @Test
+  void shouldRejectTruncatedMessage() {
+    // given
+    final var message = "record".repeat(1000).getBytes(StandardCharsets.UTF_8);
+    final var compressed = RaftMessageCompression.compress(message);
+
+    // when
+    final var truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+    // then
+    assertThatThrownBy(() -> RaftMessageCompression.decompress(truncated))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldDecompressLargeMessageInChunks() {
+    // given
+    final var message = "record".repeat(1024 * 1024).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final var compressed = RaftMessageCompression.compress(message);
+
+    // then
+    assertThat(RaftMessageCompression.decompress(compressed)).isEqualTo(message);
+  }
+
+  @Test
+  void shouldRejectNegativeLength() {
+    // given
+    final var compressed = RaftMessageCompression.compress(new byte[] {1, 2, 3});
+
+    // when
+    ByteBuffer.wrap(compressed).putInt(0, -1);
+
+    // then
+    assertThatThrownBy(() -> RaftMessageCompression.decompress(compressed))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectLengthAboveCompressionRatio() {
+    // given
+    final var compressed = RaftMessageCompression.compress(new byte[] {1, 2, 3});
+
+    // when
+    ByteBuffer.wrap(compressed).putInt(0, Integer.MAX_VALUE);
+
+    // then
+    assertThatThrownBy(() -> RaftMessageCompression.decompress(compressed))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("message length");
+  }
+}
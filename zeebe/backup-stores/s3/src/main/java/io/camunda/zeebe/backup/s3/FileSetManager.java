@@ -16,12 +16,21 @@ import io.camunda.zeebe.backup.s3.util.CompletableFutureUtils;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.utils.IOUtils;
@@ -32,6 +41,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
 
 /** Can save and restore {@link NamedFileSet NamedFileSets}. */
 final class FileSetManager {
@@ -40,63 +50,179 @@ final class FileSetManager {
   private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
   private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
   private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
+  // user metadata of every saved object, describing the uncompressed file content
+  static final String CHECKSUM_METADATA_KEY = "zeebe-content-crc32c";
+  static final String SIZE_METADATA_KEY = "zeebe-content-size";
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
+  private final Executor executor;
   private final Semaphore uploadLimit;
+  private final Semaphore downloadLimit;
+  private final S3BackupStoreMetrics metrics = new S3BackupStoreMetrics();
 
-  public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
+  /**
+   * @param executor used for blocking work, i.e. waiting for a permit and reading files to compute
+   *     their checksum, so that it doesn't occupy the common pool or the client's threads
+   */
+  public FileSetManager(
+      final S3AsyncClient client, final S3BackupConfig config, final Executor executor) {
     this.client = client;
     this.config = config;
+    this.executor = executor;
 
     // We try not to exhaust the available connections by restricting the number of
     // concurrent uploads to half of the number of available connections.
     // This should prevent ConnectionAcquisitionTimeout for backups with many and/or large files
     // where we would otherwise occupy all connections, preventing some uploads from starting.
     uploadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
+    // The same applies to restoring. Every request of a download holds a permit, so that neither
+    // the number of connections nor the memory buffering downloaded parts grows with the number
+    // of files.
+    downloadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
   }
 
   CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
+    return save(prefix, files, prefix, FileSet.empty());
+  }
+
+  /**
+   * Saves the given files to the prefix. Files which are also part of {@code previousFiles} and
+   * whose content did not change since then, are copied from {@code previousPrefix} within the
+   * bucket instead of being uploaded again. The copies are independent objects, so every backup
+   * remains self-contained and can be restored or deleted on its own.
+   */
+  CompletableFuture<FileSet> save(
+      final String prefix,
+      final NamedFileSet files,
+      final String previousPrefix,
+      final FileSet previousFiles) {
     LOG.debug("Saving {} files to prefix {}", files.files().size(), prefix);
     return CompletableFutureUtils.mapAsync(
             files.namedFiles().entrySet(),
             Entry::getKey,
-            namedFile -> saveFile(prefix, namedFile.getKey(), namedFile.getValue()))
+            namedFile ->
+                saveFile(
+                    prefix,
+                    namedFile.getKey(),
+                    namedFile.getValue(),
+                    previousPrefix,
+                    previousFiles.files().get(namedFile.getKey())))
         .thenApply(FileSet::new);
   }
 
   private CompletableFuture<FileSet.FileMetadata> saveFile(
-      final String prefix, final String fileName, final Path filePath) {
+      final String prefix,
+      final String fileName,
+      final Path filePath,
+      final String previousPrefix,
+      final FileMetadata previousMetadata) {
+    return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly, executor)
+        .thenApply(nothing -> ContentChecksum.of(filePath))
+        .thenCompose(
+            checksum -> {
+              if (previousMetadata == null) {
+                return uploadFile(prefix, fileName, filePath, checksum);
+              }
+              // the previous object may have been deleted in the meantime, or the copy may be
+              // rejected by the store; uploading the file is always possible
+              return copyFileIfUnchanged(previousPrefix, prefix, fileName, checksum)
+                  .exceptionally(
+                      error -> {
+                        LOG.debug(
+                            "Failed to copy file {} from prefix {}, uploading it instead",
+                            fileName,
+                            previousPrefix,
+                            error);
+                        return false;
+                      })
+                  .thenCompose(
+                      copied ->
+                          copied
+                              ? CompletableFuture.completedFuture(previousMetadata)
+                              : uploadFile(prefix, fileName, filePath, checksum));
+            })
+        .whenComplete((success, error) -> uploadLimit.release());
+  }
 
+  private CompletableFuture<FileSet.FileMetadata> uploadFile(
+      final String prefix,
+      final String fileName,
+      final Path filePath,
+      final ContentChecksum checksum) {
     if (shouldCompressFile(filePath)) {
       final var algorithm = config.compressionAlgorithm().orElseThrow();
-      return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-          .thenApply((success) -> compressFile(filePath, algorithm))
-          .thenCompose(
-              (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
-              })
-          .whenComplete((success, error) -> uploadLimit.release());
+      final var compressedFile = compressFile(filePath, algorithm);
+      LOG.trace("Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
+      return client
+          .putObject(
+              put ->
+                  put.bucket(config.bucketName())
+                      .key(prefix + fileName)
+                      .metadata(checksum.toMetadata()),
+              AsyncRequestBody.fromFile(compressedFile))
+          .thenRun(() -> metrics.observeUploaded(sizeOf(compressedFile)))
+          .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
+          .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
     }
 
-    return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
+    LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
+    return client
+        .putObject(
+            put ->
+                put.bucket(config.bucketName())
+                    .key(prefix + fileName)
+                    .metadata(checksum.toMetadata()),
+            AsyncRequestBody.fromFile(filePath))
+        .thenApply(
+            unused -> {
+              metrics.observeUploaded(checksum.size());
+              return FileSet.FileMetadata.none();
+            });
+  }
+
+  /**
+   * Copies the file from the source prefix if the stored object has the same content size and
+   * checksum as the file. Objects saved by previous versions have no checksum and are never copied.
+   * Large objects are copied in parts by the client's multipart support.
+   *
+   * @return true if the file was copied, false if it has to be uploaded
+   */
+  private CompletableFuture<Boolean> copyFileIfUnchanged(
+      final String sourcePrefix,
+      final String targetPrefix,
+      final String fileName,
+      final ContentChecksum checksum) {
+    final var sourceKey = sourcePrefix + fileName;
+    return client
+        .headObject(req -> req.bucket(config.bucketName()).key(sourceKey))
         .thenCompose(
-            (nothing) -> {
-              LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
+            head -> {
+              if (!checksum.matches(head.metadata())) {
+                return CompletableFuture.completedFuture(false);
+              }
+
+              LOG.trace(
+                  "Copying unchanged file {} from prefix {} to prefix {}",
+                  fileName,
+                  sourcePrefix,
+                  targetPrefix);
+              // the metadata is set explicitly, as multipart copies don't take it from the source
               return client
-                  .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                      AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
-            })
-        .whenComplete((success, error) -> uploadLimit.release());
+                  .copyObject(
+                      copy ->
+                          copy.sourceBucket(config.bucketName())
+                              .sourceKey(sourceKey)
+                              .destinationBucket(config.bucketName())
+                              .destinationKey(targetPrefix + fileName)
+                              .metadataDirective(MetadataDirective.REPLACE)
+                              .metadata(head.metadata()))
+                  .thenApply(
+                      unused -> {
+                        metrics.observeCopied(checksum.size());
+                        return true;
+                      });
+            });
   }
 
   private void cleanupCompressedFile(final Path compressedFile) {
@@ -108,6 +234,15 @@ final class FileSetManager {
     }
   }
 
+  private long sizeOf(final Path file) {
+    try {
+      return Files.size(file);
+    } catch (final IOException e) {
+      LOG.debug("Failed to determine the size of {}", file, e);
+      return 0;
+    }
+  }
+
   private boolean shouldCompressFile(final Path filePath) {
     try {
       return config.compressionAlgorithm().isPresent()
@@ -173,16 +308,10 @@ final class FileSetManager {
           targetFolder);
       try {
         final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
-        return client
-            .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
-                AsyncResponseTransformer.toFile(
-                    compressed,
-                    cfg ->
-                        cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
-                            .failureBehavior(FailureBehavior.DELETE)))
+        return downloadFile(
+                sourcePrefix + fileName, compressed, FileWriteOption.CREATE_OR_REPLACE_EXISTING)
             .thenApplyAsync(
-                response -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
+                nothing -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
 
       } catch (final IOException e) {
         throw new UncheckedIOException(e);
@@ -191,9 +320,123 @@ final class FileSetManager {
 
     LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
     final var path = targetFolder.resolve(fileName);
-    return client
-        .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
-        .thenApply(response -> path);
+    return downloadFile(sourcePrefix + fileName, path, FileWriteOption.CREATE_NEW)
+        .thenApply(nothing -> path);
+  }
+
+  /**
+   * Downloads the object to the target file. Objects larger than the configured part size are
+   * downloaded with parallel ranged requests, so that restoring a large file is not bound by the
+   * throughput of a single stream. At most {@link S3BackupConfig#maxParallelPartsPerFile()} parts
+   * per file are in flight, each of them buffered in memory until written to the file. Across all
+   * files, the number of requests in flight is bounded by the download permits.
+   */
+  private CompletableFuture<Void> downloadFile(
+      final String key, final Path target, final FileWriteOption writeOption) {
+    return withDownloadPermit(
+            () -> client.headObject(req -> req.bucket(config.bucketName()).key(key)))
+        .thenCompose(
+            head -> {
+              if (head.contentLength() <= config.multipartPartSize()) {
+                return withDownloadPermit(
+                    () ->
+                        client
+                            .getObject(
+                                req -> req.bucket(config.bucketName()).key(key),
+                                AsyncResponseTransformer.toFile(
+                                    target,
+                                    cfg ->
+                                        cfg.fileWriteOption(writeOption)
+                                            .failureBehavior(FailureBehavior.DELETE)))
+                            .<Void>thenApply(response -> null));
+              }
+              return downloadParts(key, target, head.contentLength(), writeOption);
+            });
+  }
+
+  private CompletableFuture<Void> downloadParts(
+      final String key, final Path target, final long size, final FileWriteOption writeOption) {
+    LOG.trace("Downloading {} bytes of {} in parts to {}", size, key, target);
+    final FileChannel channel;
+    try {
+      channel =
+          writeOption == FileWriteOption.CREATE_NEW
+              ? FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)
+              : FileChannel.open(
+                  target,
+                  StandardOpenOption.WRITE,
+                  StandardOpenOption.CREATE,
+                  StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    final var partCount = (size + config.multipartPartSize() - 1) / config.multipartPartSize();
+    final var parallelParts = (int) Math.min(config.maxParallelPartsPerFile(), partCount);
+    final var downloads = new CompletableFuture<?>[parallelParts];
+    for (int part = 0; part < parallelParts; part++) {
+      downloads[part] = downloadPart(key, channel, size, part, parallelParts);
+    }
+
+    return CompletableFuture.allOf(downloads)
+        .whenComplete(
+            (success, error) -> {
+              try {
+                channel.close();
+                if (error != null) {
+                  Files.deleteIfExists(target);
+                }
+              } catch (final IOException e) {
+                LOG.warn("Failed to clean up after downloading {} to {}", key, target, e);
+              }
+            });
+  }
+
+  /**
+   * Downloads the given part, and then every {@code stride}th part after it, one after the other.
+   */
+  private CompletableFuture<Void> downloadPart(
+      final String key,
+      final FileChannel channel,
+      final long size,
+      final long part,
+      final int stride) {
+    final var start = part * config.multipartPartSize();
+    if (start >= size) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var end = Math.min(start + config.multipartPartSize(), size) - 1;
+    // the permit is held until the part is written, as the part is buffered in memory until then
+    return withDownloadPermit(
+            () ->
+                client
+                    .getObject(
+                        req ->
+                            req.bucket(config.bucketName())
+                                .key(key)
+                                .range("bytes=%d-%d".formatted(start, end)),
+                        AsyncResponseTransformer.toBytes())
+                    .thenAccept(response -> writePart(channel, response.asByteBuffer(), start)))
+        .thenCompose(nothing -> downloadPart(key, channel, size, part + stride, stride));
+  }
+
+  private <T> CompletableFuture<T> withDownloadPermit(
+      final Supplier<CompletableFuture<T>> request) {
+    return CompletableFuture.runAsync(downloadLimit::acquireUninterruptibly, executor)
+        .thenCompose(nothing -> request.get())
+        .whenComplete((result, error) -> downloadLimit.release());
+  }
+
+  private void writePart(final FileChannel channel, final ByteBuffer content, final long position) {
+    try {
+      var written = 0L;
+      while (content.hasRemaining()) {
+        written += channel.write(content, position + written);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   private Path decompressFile(
@@ -221,4 +464,30 @@ final class FileSetManager {
           e);
     }
   }
+
+  /**
+   * Size and CRC32C checksum of a file's uncompressed content. Both are compared before a file is
+   * copied from a previous backup, so that a checksum collision alone can't replace a changed file.
+   */
+  private record ContentChecksum(long size, long crc32c) {
+
+    private static ContentChecksum of(final Path filePath) {
+      try (final var input = new CheckedInputStream(Files.newInputStream(filePath), new CRC32C())) {
+        final var size = input.transferTo(OutputStream.nullOutputStream());
+        return new ContentChecksum(size, input.getChecksum().getValue());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private Map<String, String> toMetadata() {
+      return Map.of(
+          SIZE_METADATA_KEY, Long.toString(size), CHECKSUM_METADATA_KEY, Long.toString(crc32c));
+    }
+
+    private boolean matches(final Map<String, String> metadata) {
+      return Long.toString(size).equals(metadata.get(SIZE_METADATA_KEY))
+          && Long.toString(crc32c).equals(metadata.get(CHECKSUM_METADATA_KEY));
+    }
+  }
 }
@@ -32,6 +32,11 @@ import org.apache.commons.compress.compressors.CompressorStreamFactory;
  * @param maxConcurrentConnections Maximum number of connections allowed in a connection pool.
  * @param connectionAcquisitionTimeout Timeout for acquiring an already-established connection from
  *     a connection pool to a remote service.
+ * @param multipartPartSize Size in bytes of the parts in which larger files are uploaded and
+ *     downloaded. Files above this size are uploaded with a multipart upload and restored with
+ *     ranged downloads. Must be at least 5 MiB, the minimum part size of S3.
+ * @param maxParallelPartsPerFile Maximum number of parts of a single file which are downloaded in
+ *     parallel. Bounds the memory used to restore a file to this number times the part size.
  * @see <a
  *     href=https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/region-selection.html#automatically-determine-the-aws-region-from-the-environment>
  *     Automatically determine the Region from the environment</a>
@@ -50,7 +55,11 @@ public record S3BackupConfig(
     Optional<String> compressionAlgorithm,
     Optional<String> basePath,
     Integer maxConcurrentConnections,
-    Duration connectionAcquisitionTimeout) {
+    Duration connectionAcquisitionTimeout,
+    long multipartPartSize,
+    int maxParallelPartsPerFile) {
+
+  static final long MIN_MULTIPART_PART_SIZE = 5 * 1024 * 1024;
 
   public S3BackupConfig {
     if (bucketName == null || bucketName.isEmpty()) {
@@ -81,6 +90,16 @@ public record S3BackupConfig(
             "basePath must not start or end with '/' but was: %s".formatted(prefix));
       }
     }
+    if (multipartPartSize < MIN_MULTIPART_PART_SIZE) {
+      throw new IllegalArgumentException(
+          "multipartPartSize must be at least %d bytes but was: %d"
+              .formatted(MIN_MULTIPART_PART_SIZE, multipartPartSize));
+    }
+    if (maxParallelPartsPerFile < 1) {
+      throw new IllegalArgumentException(
+          "maxParallelPartsPerFile must be at least 1 but was: %d"
+              .formatted(maxParallelPartsPerFile));
+    }
   }
 
   record Credentials(String accessKey, String secretKey) {
@@ -114,6 +133,11 @@ public record S3BackupConfig(
     /** Default from `SdkHttpConfigurationOption.DEFAULT_CONNECTION_ACQUIRE_TIMEOUT` */
     private Duration connectionAcquisitionTimeout = Duration.ofSeconds(45);
 
+    /** Default from `MultipartConfiguration.minimumPartSizeInBytes` */
+    private long multipartPartSize = 8 * 1024 * 1024;
+
+    private int maxParallelPartsPerFile = 4;
+
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
       return this;
@@ -164,6 +188,16 @@ public record S3BackupConfig(
       return this;
     }
 
+    public Builder withMultipartPartSize(final long multipartPartSize) {
+      this.multipartPartSize = multipartPartSize;
+      return this;
+    }
+
+    public Builder withMaxParallelPartsPerFile(final int maxParallelPartsPerFile) {
+      this.maxParallelPartsPerFile = maxParallelPartsPerFile;
+      return this;
+    }
+
     public S3BackupConfig build() {
       return new S3BackupConfig(
           bucketName,
@@ -175,7 +209,9 @@ public record S3BackupConfig(
           Optional.ofNullable(compressionAlgorithm),
           Optional.ofNullable(basePath),
           maxConcurrentConnections,
-          connectionAcquisitionTimeout);
+          connectionAcquisitionTimeout,
+          multipartPartSize,
+          maxParallelPartsPerFile);
     }
   }
 }
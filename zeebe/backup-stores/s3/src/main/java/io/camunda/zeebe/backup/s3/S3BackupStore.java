@@ -18,11 +18,13 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
+import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.s3.manifest.NoBackupManifest;
@@ -35,6 +37,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -54,6 +60,7 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
 /**
  * {@link BackupStore} for S3. Stores all backups in a given bucket.
@@ -71,6 +78,10 @@ import software.amazon.awssdk.services.s3.model.S3Object;
  *   <li>Objects for segment files, additionally prefixed with 'segments', for example
  *       <pre>partitionId/checkpointId/nodeId/segments/segment-file-1</pre>
  * </ol>
+ *
+ * <p>Files which did not change since the previous completed backup of the same partition and node
+ * are copied within the bucket instead of being uploaded again. The copies are regular objects, so
+ * backups never reference each other's objects.
  */
 public final class S3BackupStore implements BackupStore {
   static final ObjectMapper MAPPER =
@@ -83,6 +94,7 @@ public final class S3BackupStore implements BackupStore {
   private final Pattern backupIdentifierPattern;
   private final S3BackupConfig config;
   private final S3AsyncClient client;
+  private final ExecutorService executor;
   private final FileSetManager fileSetManager;
 
   public S3BackupStore(final S3BackupConfig config) {
@@ -92,7 +104,8 @@ public final class S3BackupStore implements BackupStore {
   public S3BackupStore(final S3BackupConfig config, final S3AsyncClient client) {
     this.config = config;
     this.client = client;
-    fileSetManager = new FileSetManager(client, config);
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    fileSetManager = new FileSetManager(client, config, executor);
     final var basePath = config.basePath();
     backupIdentifierPattern =
         Pattern.compile(
@@ -170,10 +183,11 @@ public final class S3BackupStore implements BackupStore {
     LOG.info("Saving {}", backup.id());
     return updateManifestObject(
             backup.id(), Manifest::expectNoBackup, manifest -> manifest.asInProgress(backup))
+        .thenComposeAsync(status -> findPreviousBackup(backup.id()))
         .thenComposeAsync(
-            status -> {
-              final var snapshot = saveSnapshotFiles(backup);
-              final var segments = saveSegmentFiles(backup);
+            previous -> {
+              final var snapshot = saveSnapshotFiles(backup, previous);
+              final var segments = saveSegmentFiles(backup, previous);
 
               return CompletableFuture.allOf(snapshot, segments)
                   .thenComposeAsync(
@@ -256,7 +270,20 @@ public final class S3BackupStore implements BackupStore {
   @Override
   public CompletableFuture<Void> closeAsync() {
     client.close();
-    return CompletableFuture.completedFuture(null);
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            executor.shutdown();
+            final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (!closed) {
+              LOG.warn("Failed to orderly shutdown S3 Store Executor within one minute.");
+              executor.shutdownNow();
+            }
+          } catch (final Exception e) {
+            LOG.error("Failed to shutdown of S3 Store Executor.");
+            throw new RuntimeException(e);
+          }
+        });
   }
 
   private CompletableFuture<List<ObjectIdentifier>> listBackupObjects(final BackupIdentifier id) {
@@ -381,18 +408,91 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(resp -> manifest);
   }
 
-  private CompletableFuture<FileSet> saveSnapshotFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSnapshotFiles(
+      final Backup backup, final Optional<CompletedBackupManifest> previous) {
     LOG.debug("Saving snapshot files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
+    if (previous.isPresent()) {
+      final var previousPrefix = objectPrefix(previous.get().id()) + SNAPSHOT_PREFIX;
+      return fileSetManager.save(
+          prefix, backup.snapshot(), previousPrefix, previous.get().snapshotFiles());
+    }
     return fileSetManager.save(prefix, backup.snapshot());
   }
 
-  private CompletableFuture<FileSet> saveSegmentFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSegmentFiles(
+      final Backup backup, final Optional<CompletedBackupManifest> previous) {
     LOG.debug("Saving segment files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SEGMENTS_PREFIX;
+    if (previous.isPresent()) {
+      final var previousPrefix = objectPrefix(previous.get().id()) + SEGMENTS_PREFIX;
+      return fileSetManager.save(
+          prefix, backup.segments(), previousPrefix, previous.get().segmentFiles());
+    }
     return fileSetManager.save(prefix, backup.segments());
   }
 
+  /**
+   * Finds the completed backup of the same partition and node with the highest checkpoint id below
+   * the given one. Files of this backup which did not change are copied within the bucket instead
+   * of being uploaded again. Only the latest previous checkpoint is considered; if it's not
+   * completed, or if looking it up fails, all files are uploaded.
+   */
+  private CompletableFuture<Optional<CompletedBackupManifest>> findPreviousBackup(
+      final BackupIdentifier id) {
+    final var partitionPrefix =
+        wildcardPrefix(
+                new BackupIdentifierWildcardImpl(
+                    Optional.empty(), Optional.of(id.partitionId()), Optional.empty()))
+            + "/";
+    final var previousCheckpointId = new AtomicLong(-1);
+    return client
+        .listObjectsV2Paginator(
+            req -> req.bucket(config.bucketName()).prefix(partitionPrefix).delimiter("/"))
+        .commonPrefixes()
+        .subscribe(
+            checkpointPrefix ->
+                tryParseCheckpointId(partitionPrefix, checkpointPrefix.prefix())
+                    .filter(checkpointId -> checkpointId < id.checkpointId())
+                    .ifPresent(
+                        checkpointId ->
+                            previousCheckpointId.accumulateAndGet(checkpointId, Math::max)))
+        .thenCompose(
+            nothing -> {
+              if (previousCheckpointId.get() < 0) {
+                return CompletableFuture.completedFuture(Optional.<CompletedBackupManifest>empty());
+              }
+              final var previousId =
+                  new BackupIdentifierImpl(
+                      id.nodeId(), id.partitionId(), previousCheckpointId.get());
+              return readManifestObject(previousId)
+                  .thenApply(
+                      manifest ->
+                          manifest instanceof final CompletedBackupManifest completed
+                              ? Optional.of(completed)
+                              : Optional.<CompletedBackupManifest>empty());
+            })
+        .exceptionally(
+            throwable -> {
+              LOG.warn(
+                  "Failed to find previous backup of {}, uploading all files instead",
+                  id,
+                  throwable);
+              return Optional.empty();
+            });
+  }
+
+  private Optional<Long> tryParseCheckpointId(
+      final String partitionPrefix, final String checkpointPrefix) {
+    try {
+      return Optional.of(
+          Long.parseLong(
+              checkpointPrefix.substring(partitionPrefix.length(), checkpointPrefix.length() - 1)));
+    } catch (final NumberFormatException | IndexOutOfBoundsException e) {
+      return Optional.empty();
+    }
+  }
+
   public static S3AsyncClient buildClient(final S3BackupConfig config) {
     final var builder = S3AsyncClient.builder();
 
@@ -407,6 +507,14 @@ public final class S3BackupStore implements BackupStore {
             .connectionAcquisitionTimeout(config.connectionAcquisitionTimeout())
             .build());
 
+    // Upload and copy large files in parts, in parallel, instead of with a single request
+    builder.multipartEnabled(true);
+    builder.multipartConfiguration(
+        MultipartConfiguration.builder()
+            .thresholdInBytes(config.multipartPartSize())
+            .minimumPartSizeInBytes(config.multipartPartSize())
+            .build());
+
     builder.overrideConfiguration(cfg -> cfg.retryPolicy(RetryMode.ADAPTIVE));
     builder.forcePathStyle(config.forcePathStyleAccess());
     config.endpoint().ifPresent(endpoint -> builder.endpointOverride(URI.create(endpoint)));
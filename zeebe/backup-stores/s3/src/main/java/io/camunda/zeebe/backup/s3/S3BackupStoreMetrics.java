@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Counts the bytes which the store transferred to S3, separately from the bytes of files which it
+ * copied within the bucket. The rate of the uploaded bytes is the throughput of saving backups.
+ */
+final class S3BackupStoreMetrics {
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Counter UPLOADED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("backup_s3_uploaded_bytes_total")
+          .help("Total number of bytes uploaded to S3 when saving backup files")
+          .register();
+
+  private static final Counter COPIED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("backup_s3_copied_bytes_total")
+          .help(
+              "Total size of the backup files which were copied from a previous backup within S3"
+                  + " instead of being uploaded, in bytes")
+          .register();
+
+  void observeUploaded(final long bytes) {
+    UPLOADED_BYTES.inc(bytes);
+  }
+
+  void observeCopied(final long bytes) {
+    COPIED_BYTES.inc(bytes);
+  }
+}
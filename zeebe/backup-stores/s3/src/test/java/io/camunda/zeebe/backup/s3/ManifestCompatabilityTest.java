@@ -9,6 +9,7 @@ package io.camunda.zeebe.backup.s3;
 
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FailedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import io.camunda.zeebe.backup.s3.manifest.InProgressBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.ValidBackupManifest;
 import java.io.IOException;
@@ -89,4 +90,23 @@ final class ManifestCompatabilityTest {
     Assertions.assertThat(manifest.segmentFiles().files()).isNotEmpty();
     Assertions.assertThat(manifest.snapshotFiles().files()).isNotEmpty();
   }
+
+  @Test
+  void shouldParseFileMetadataWithoutChecksumFromPreviousVersion() throws IOException {
+    // given
+    final var objectReader = S3BackupStore.MAPPER.readerFor(ValidBackupManifest.class);
+
+    // when
+    final var manifest =
+        objectReader.readValue(
+            getClass().getResourceAsStream("/manifests/8.5/completed.json"),
+            CompletedBackupManifest.class);
+
+    // then
+    Assertions.assertThat(manifest.snapshotFiles().files())
+        .containsEntry("000143.log", FileMetadata.none())
+        .containsEntry("000144.sst", FileMetadata.withCompression("zstd"));
+    Assertions.assertThat(manifest.segmentFiles().files())
+        .containsEntry("raft-partition-partition-1-49.log", FileMetadata.withCompression("zstd"));
+  }
 }
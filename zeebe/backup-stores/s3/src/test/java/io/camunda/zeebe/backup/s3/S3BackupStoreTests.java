@@ -10,18 +10,30 @@ package io.camunda.zeebe.backup.s3;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.RandomUtils;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
@@ -243,4 +255,136 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
         .withThrowableOfType(Throwable.class)
         .withRootCauseInstanceOf(BackupInInvalidStateException.class);
   }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void unchangedFilesOfPreviousBackupAreCopied(
+      final Backup previousBackup, @TempDir final Path targetDir) {
+    // given
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(
+                previousBackup.id().nodeId(),
+                previousBackup.id().partitionId(),
+                previousBackup.id().checkpointId() + 1),
+            previousBackup.descriptor(),
+            previousBackup.snapshot(),
+            previousBackup.segments());
+    getStore().save(previousBackup).join();
+    getStore().save(backup).join();
+
+    // when
+    getStore().delete(previousBackup.id()).join();
+    final var restored = getStore().restore(backup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup).residesInPath(targetDir);
+
+    final var prefix = getStore().objectPrefix(backup.id());
+    assertThat(
+            getClient()
+                .listObjectsV2(req -> req.bucket(getConfig().bucketName()).prefix(prefix))
+                .join()
+                .contents())
+        .filteredOn(object -> !object.key().endsWith(S3BackupStore.MANIFEST_OBJECT_KEY))
+        .isNotEmpty()
+        .allSatisfy(
+            object ->
+                assertThat(
+                        getClient()
+                            .headObject(
+                                req -> req.bucket(getConfig().bucketName()).key(object.key()))
+                            .join()
+                            .metadata())
+                    .containsKeys(
+                        FileSetManager.CHECKSUM_METADATA_KEY, FileSetManager.SIZE_METADATA_KEY));
+  }
+
+  @Test
+  default void changedFilesOfPreviousBackupAreUploaded(
+      @TempDir final Path sourceDir, @TempDir final Path targetDir) throws IOException {
+    // given - a file which has the same name, but different content, in the previous backup
+    final var previousFile = sourceDir.resolve("previous");
+    final var file = sourceDir.resolve("current");
+    Files.write(previousFile, RandomUtils.nextBytes(1024));
+    Files.write(file, RandomUtils.nextBytes(2048));
+    final var descriptor = new BackupDescriptorImpl(Optional.empty(), 4, 5, "test");
+    final var previousBackup =
+        new BackupImpl(
+            new BackupIdentifierImpl(1, 2, 3),
+            descriptor,
+            new NamedFileSetImpl(Map.of()),
+            new NamedFileSetImpl(Map.of("segment-file", previousFile)));
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(1, 2, 4),
+            descriptor,
+            new NamedFileSetImpl(Map.of()),
+            new NamedFileSetImpl(Map.of("segment-file", file)));
+    getStore().save(previousBackup).join();
+
+    // when
+    getStore().save(backup).join();
+    final var restored = getStore().restore(backup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup).residesInPath(targetDir);
+  }
+
+  @Test
+  default void largeFilesAreSavedAndRestoredInParts(
+      @TempDir final Path sourceDir, @TempDir final Path targetDir) throws IOException {
+    // given - a file which spans multiple parts, with the last part being smaller than the others
+    final var largeFile = sourceDir.resolve("large-segment-file");
+    Files.write(largeFile, RandomUtils.nextBytes((int) (2.5 * getConfig().multipartPartSize())));
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(1, 2, 3),
+            new BackupDescriptorImpl(Optional.empty(), 4, 5, "test"),
+            new NamedFileSetImpl(Map.of()),
+            new NamedFileSetImpl(Map.of("large-segment-file", largeFile)));
+    getStore().save(backup).join();
+
+    // when
+    final var restored = getStore().restore(backup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup).residesInPath(targetDir);
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void unchangedFilesAreUploadedIfTheyCannotBeCopied(
+      final Backup previousBackup, @TempDir final Path targetDir) {
+    // given - the files of the previous backup are gone, but its manifest still references them
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(
+                previousBackup.id().nodeId(),
+                previousBackup.id().partitionId(),
+                previousBackup.id().checkpointId() + 1),
+            previousBackup.descriptor(),
+            previousBackup.snapshot(),
+            previousBackup.segments());
+    getStore().save(previousBackup).join();
+    final var previousPrefix = getStore().objectPrefix(previousBackup.id());
+    getClient()
+        .listObjectsV2(req -> req.bucket(getConfig().bucketName()).prefix(previousPrefix))
+        .join()
+        .contents()
+        .stream()
+        .filter(object -> !object.key().endsWith(S3BackupStore.MANIFEST_OBJECT_KEY))
+        .forEach(
+            object ->
+                getClient()
+                    .deleteObject(req -> req.bucket(getConfig().bucketName()).key(object.key()))
+                    .join());
+
+    // when
+    getStore().save(backup).join();
+    final var restored = getStore().restore(backup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup).residesInPath(targetDir);
+  }
 }
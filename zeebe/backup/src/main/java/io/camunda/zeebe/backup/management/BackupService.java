@@ -53,7 +53,7 @@ public final class BackupService extends Actor implements BackupManager {
     this.segmentsDirectory = segmentsDirectory;
     this.isSegmentsFile = isSegmentsFile;
     metrics = new BackupManagerMetrics(partitionId);
-    internalBackupManager = new BackupServiceImpl(backupStore);
+    internalBackupManager = new BackupServiceImpl(backupStore, metrics);
     actorName = buildActorName("BackupService", partitionId);
   }
 
@@ -11,6 +11,7 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
+import io.camunda.zeebe.backup.metrics.BackupManagerMetrics;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -29,10 +30,12 @@ final class BackupServiceImpl {
   private static final Logger LOG = LoggerFactory.getLogger(BackupServiceImpl.class);
   private final Set<InProgressBackup> backupsInProgress = new HashSet<>();
   private final BackupStore backupStore;
+  private final BackupManagerMetrics metrics;
   private ConcurrencyControl concurrencyControl;
 
-  BackupServiceImpl(final BackupStore backupStore) {
+  BackupServiceImpl(final BackupStore backupStore, final BackupManagerMetrics metrics) {
     this.backupStore = backupStore;
+    this.metrics = metrics;
   }
 
   void close() {
@@ -133,11 +136,14 @@ final class BackupServiceImpl {
   private ActorFuture<Void> saveBackup(final InProgressBackup inProgressBackup) {
     final ActorFuture<Void> future = concurrencyControl.createFuture();
     final var backup = inProgressBackup.createBackup();
+    // determined here, as the store completes the save on its own threads
+    final long size = inProgressBackup.size();
     backupStore
         .save(backup)
         .whenComplete(
             (ignore, error) -> {
               if (error == null) {
+                metrics.observeBackupSaved(size);
                 future.complete(null);
               } else {
                 future.completeExceptionally("Failed to save backup", error);
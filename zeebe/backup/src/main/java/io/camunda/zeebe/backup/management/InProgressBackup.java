@@ -29,5 +29,10 @@ interface InProgressBackup {
 
   Backup createBackup();
 
+  /**
+   * @return the total size in bytes of the snapshot and segment files of this backup
+   */
+  long size();
+
   void close();
 }
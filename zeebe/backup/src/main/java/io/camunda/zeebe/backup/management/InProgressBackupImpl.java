@@ -215,6 +215,11 @@ final class InProgressBackupImpl implements InProgressBackup {
     return new BackupImpl(backupId, backupDescriptor, snapshotFileSet, segmentsFileSet);
   }
 
+  @Override
+  public long size() {
+    return sizeOf(snapshotFileSet) + sizeOf(segmentsFileSet);
+  }
+
   @Override
   public void close() {
     if (snapshotReservation != null) {
@@ -223,6 +228,18 @@ final class InProgressBackupImpl implements InProgressBackup {
     }
   }
 
+  private static long sizeOf(final NamedFileSet fileSet) {
+    long size = 0;
+    for (final Path file : fileSet.files()) {
+      try {
+        size += Files.size(file);
+      } catch (final IOException e) {
+        LOG.debug("Failed to determine the size of backup file {}", file, e);
+      }
+    }
+    return size;
+  }
+
   private Either<String, Set<PersistedSnapshot>> findValidSnapshot(
       final Set<PersistedSnapshot> snapshots) {
     final var validSnapshots =
@@ -49,6 +49,16 @@ public class BackupManagerMetrics {
           .buckets(0.01, 0.1, 1, 10, 60, 5 * 60)
           .register();
 
+  private static final Counter BACKUP_SAVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("backup_saved_bytes_total")
+          .help(
+              "Total size of the files of all backups saved to the backup store, in bytes. Includes"
+                  + " files which the store copied from a previous backup instead of uploading them")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private final String partitionId;
 
   public BackupManagerMetrics(final int partitionId) {
@@ -71,6 +81,10 @@ public class BackupManagerMetrics {
     return OperationMetrics.start(partitionId, DELETE_OPERATION);
   }
 
+  public void observeBackupSaved(final long sizeInBytes) {
+    BACKUP_SAVED_BYTES.labels(partitionId).inc(sizeInBytes);
+  }
+
   public void cancelInProgressOperations() {
     OPERATIONS_IN_PROGRESS.labels(partitionId, TAKE_OPERATION).set(0);
     OPERATIONS_IN_PROGRESS.labels(partitionId, DELETE_OPERATION).set(0);
@@ -26,6 +26,7 @@ import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.metrics.BackupManagerMetrics;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
@@ -54,7 +55,7 @@ class BackupServiceImplTest {
 
   @BeforeEach
   void setup() {
-    backupService = new BackupServiceImpl(backupStore);
+    backupService = new BackupServiceImpl(backupStore, new BackupManagerMetrics(1));
 
     lenient()
         .when(notExistingBackupStatus.statusCode())
@@ -465,6 +466,11 @@ class BackupServiceImplTest {
       return null;
     }
 
+    @Override
+    public long size() {
+      return 0;
+    }
+
     @Override
     public void close() {
       closed = true;
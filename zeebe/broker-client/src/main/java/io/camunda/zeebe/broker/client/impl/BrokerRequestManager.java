@@ -164,6 +164,13 @@ final class BrokerRequestManager extends Actor {
     if (result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
       return;
     }
+    if (result != null
+        && result.getErrorCode() == ErrorCode.PARTITION_LEADER_MISMATCH
+        && request.getBrokerId().isPresent()) {
+      // the request was sent to a specific broker on purpose, e.g. a query sent to a follower
+      // first; that broker not being the leader is an expected outcome, not a failed request
+      return;
+    }
     final String code;
 
     if (result != null && result.getErrorCode() != ErrorCode.NULL_VAL) {
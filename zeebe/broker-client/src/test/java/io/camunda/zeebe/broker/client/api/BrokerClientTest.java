@@ -19,6 +19,7 @@ import io.atomix.utils.net.Address;
 import io.camunda.zeebe.broker.client.api.dto.BrokerError;
 import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.broker.client.impl.BrokerClientImpl;
 import io.camunda.zeebe.broker.client.impl.BrokerTopologyManagerImpl;
@@ -36,6 +37,7 @@ import io.camunda.zeebe.test.broker.protocol.brokerapi.StubBroker;
 import io.camunda.zeebe.test.util.junit.AutoCloseResources.AutoCloseResource;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.prometheus.client.CollectorRegistry;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
@@ -183,6 +185,32 @@ public final class BrokerClientTest {
             new BrokerErrorException(new BrokerError(ErrorCode.PARTITION_LEADER_MISMATCH, "")));
   }
 
+  @Test
+  void shouldNotCountPartitionLeaderMismatchOfSpecificBrokerAsFailedRequest() {
+    // given
+    registerError(broker, ErrorCode.PARTITION_LEADER_MISMATCH, "");
+    final var request =
+        new TestCommand() {
+          @Override
+          public Optional<Integer> getBrokerId() {
+            return Optional.of(0);
+          }
+        };
+    final var failedRequestsBefore = failedRequests(request, ErrorCode.PARTITION_LEADER_MISMATCH);
+
+    // when
+    final Future<?> response = client.sendRequest(request);
+
+    // then
+    assertThat(response)
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableThat()
+        .withCause(
+            new BrokerErrorException(new BrokerError(ErrorCode.PARTITION_LEADER_MISMATCH, "")));
+    assertThat(failedRequests(request, ErrorCode.PARTITION_LEADER_MISMATCH))
+        .isEqualTo(failedRequestsBefore);
+  }
+
   @Test
   void shouldCloseIdempotently() {
     // given
@@ -413,6 +441,17 @@ public final class BrokerClientTest {
         .register();
   }
 
+  private double failedRequests(final BrokerRequest<?> request, final ErrorCode code) {
+    final var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_gateway_failed_requests_total",
+            new String[] {"partition", "requestType", "error"},
+            new String[] {
+              String.valueOf(request.getPartitionId()), request.getType(), code.toString()
+            });
+    return value == null ? 0 : value;
+  }
+
   private void registerError(final StubBroker broker, final ErrorCode code, final String data) {
     broker
         .onExecuteCommandRequest(TestCommand.VALUE_TYPE, TestCommand.INTENT)
@@ -29,6 +29,23 @@ public interface PartitionListener {
    */
   ActorFuture<Void> onBecomingFollower(int partitionId, long term);
 
+  /**
+   * Is called by the {@link io.camunda.zeebe.broker.system.partitions.ZeebePartition} on becoming
+   * partition follower after all partition installation/clean up related things are done. Unlike
+   * {@link #onBecomingFollower(int, long)}, this also passes the query service backed by the
+   * follower's replayed state. By default, this delegates to {@link #onBecomingFollower(int,
+   * long)}.
+   *
+   * @param partitionId the corresponding partition id
+   * @param term the current term
+   * @param queryService the query service of the follower, may be null if none was installed
+   * @return future that should be completed by the listener
+   */
+  default ActorFuture<Void> onBecomingFollower(
+      final int partitionId, final long term, final QueryService queryService) {
+    return onBecomingFollower(partitionId, term);
+  }
+
   /**
    * Is called by the {@link io.camunda.zeebe.broker.system.partitions.ZeebePartition} on becoming
    * partition leader after all partition installation/clean up related things are done.
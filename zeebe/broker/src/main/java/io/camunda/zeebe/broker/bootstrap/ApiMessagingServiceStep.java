@@ -40,6 +40,9 @@ public class ApiMessagingServiceStep extends AbstractBrokerStartupStep {
     }
 
     messagingConfig.setCompressionAlgorithm(brokerCfg.getCluster().getMessageCompression());
+    messagingConfig.setFlushConsolidationEnabled(
+        brokerCfg.getCluster().isMessageFlushConsolidation());
+    messagingConfig.setNativeTransportEnabled(brokerCfg.getCluster().isMessageNativeTransport());
 
     final var messagingService =
         new NettyMessagingService(
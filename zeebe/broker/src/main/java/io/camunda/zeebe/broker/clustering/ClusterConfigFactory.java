@@ -16,6 +16,7 @@ import io.atomix.cluster.protocol.SwimMembershipProtocolConfig;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ClusterCfg;
+import io.camunda.zeebe.broker.system.configuration.ExperimentalCfg;
 import io.camunda.zeebe.broker.system.configuration.MembershipCfg;
 import io.camunda.zeebe.broker.system.configuration.NetworkCfg;
 import io.camunda.zeebe.broker.system.configuration.SocketBindingCfg;
@@ -32,7 +33,7 @@ public final class ClusterConfigFactory {
     final var membership = membershipConfig(cluster.getMembership());
     final var network = config.getNetwork();
 
-    final var messaging = messagingConfig(cluster, network);
+    final var messaging = messagingConfig(cluster, network, config.getExperimental());
     final var member = memberConfig(network.getInternalApi(), cluster.getNodeId());
 
     return new ClusterConfig()
@@ -74,10 +75,14 @@ public final class ClusterConfigFactory {
     return new BootstrapDiscoveryConfig().setNodes(nodes);
   }
 
-  private MessagingConfig messagingConfig(final ClusterCfg cluster, final NetworkCfg network) {
+  private MessagingConfig messagingConfig(
+      final ClusterCfg cluster, final NetworkCfg network, final ExperimentalCfg experimental) {
     final var messaging =
         new MessagingConfig()
+            .setMaxMessageSize(maxMessageSize(network, experimental))
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setFlushConsolidationEnabled(cluster.isMessageFlushConsolidation())
+            .setNativeTransportEnabled(cluster.isMessageNativeTransport())
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort());
 
@@ -89,4 +94,15 @@ public final class ClusterConfigFactory {
     }
     return messaging;
   }
+
+  // the largest messages between brokers are append requests, which may exceed the batch size by
+  // one entry, and snapshot chunks; anything beyond that plus some room for headers is bogus
+  private int maxMessageSize(final NetworkCfg network, final ExperimentalCfg experimental) {
+    final long largestBatch =
+        Math.max(
+            experimental.getMaxAppendBatchSizeInBytes(),
+            experimental.getRaft().getSnapshotChunkSize().toBytes());
+    final long maxMessageSize = largestBatch + 2 * network.getMaxMessageSizeInBytes();
+    return (int) Math.min(Integer.MAX_VALUE, maxMessageSize);
+  }
 }
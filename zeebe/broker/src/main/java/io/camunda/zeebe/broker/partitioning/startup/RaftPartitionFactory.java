@@ -95,6 +95,10 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setAppendCompressionEnabled(
+        brokerCfg.getExperimental().getRaft().isEnableAppendCompression());
+    partitionConfig.setAppendCompressionThreshold(
+        (int) brokerCfg.getExperimental().getRaft().getAppendCompressionThreshold().toBytes());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
@@ -54,6 +54,8 @@ public final class ClusterCfg implements ConfigurationEntry {
   private MembershipCfg membership = new MembershipCfg();
   private RaftCfg raft = new RaftCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private boolean messageFlushConsolidation = false;
+  private boolean messageNativeTransport = true;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -191,6 +193,22 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.messageCompression = messageCompression;
   }
 
+  public boolean isMessageFlushConsolidation() {
+    return messageFlushConsolidation;
+  }
+
+  public void setMessageFlushConsolidation(final boolean messageFlushConsolidation) {
+    this.messageFlushConsolidation = messageFlushConsolidation;
+  }
+
+  public boolean isMessageNativeTransport() {
+    return messageNativeTransport;
+  }
+
+  public void setMessageNativeTransport(final boolean messageNativeTransport) {
+    this.messageNativeTransport = messageNativeTransport;
+  }
+
   @Override
   public String toString() {
     return "ClusterCfg{"
@@ -219,6 +237,10 @@ public final class ClusterCfg implements ConfigurationEntry {
         + raft
         + ", messageCompression="
         + messageCompression
+        + ", messageFlushConsolidation="
+        + messageFlushConsolidation
+        + ", messageNativeTransport="
+        + messageNativeTransport
         + '}';
   }
 }
@@ -24,6 +24,7 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final DataSize DEFAULT_APPEND_COMPRESSION_THRESHOLD = DataSize.ofKilobytes(4);
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -33,6 +34,8 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean enableAppendCompression = false;
+  private DataSize appendCompressionThreshold = DEFAULT_APPEND_COMPRESSION_THRESHOLD;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -97,4 +100,20 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isEnableAppendCompression() {
+    return enableAppendCompression;
+  }
+
+  public void setEnableAppendCompression(final boolean enableAppendCompression) {
+    this.enableAppendCompression = enableAppendCompression;
+  }
+
+  public DataSize getAppendCompressionThreshold() {
+    return appendCompressionThreshold;
+  }
+
+  public void setAppendCompressionThreshold(final DataSize appendCompressionThreshold) {
+    this.appendCompressionThreshold = appendCompressionThreshold;
+  }
 }
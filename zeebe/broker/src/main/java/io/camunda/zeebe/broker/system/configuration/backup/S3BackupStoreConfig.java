@@ -12,6 +12,7 @@ import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import java.time.Duration;
 import java.util.Objects;
+import org.springframework.util.unit.DataSize;
 
 public class S3BackupStoreConfig implements ConfigurationEntry {
 
@@ -23,6 +24,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
   private Duration apiCallTimeout = Duration.ofSeconds(180);
   private boolean forcePathStyleAccess = false;
   private String compression;
+  private DataSize multipartPartSize = DataSize.ofMegabytes(8);
+  private int maxParallelPartsPerFile = 4;
 
   private String basePath;
 
@@ -94,6 +97,22 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     }
   }
 
+  public DataSize getMultipartPartSize() {
+    return multipartPartSize;
+  }
+
+  public void setMultipartPartSize(final DataSize multipartPartSize) {
+    this.multipartPartSize = multipartPartSize;
+  }
+
+  public int getMaxParallelPartsPerFile() {
+    return maxParallelPartsPerFile;
+  }
+
+  public void setMaxParallelPartsPerFile(final int maxParallelPartsPerFile) {
+    this.maxParallelPartsPerFile = maxParallelPartsPerFile;
+  }
+
   public void setBasePath(final String basePath) {
     this.basePath = basePath;
   }
@@ -111,6 +130,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
             .withApiCallTimeout(config.getApiCallTimeout())
             .forcePathStyleAccess(config.isForcePathStyleAccess())
             .withCompressionAlgorithm(config.getCompression())
+            .withMultipartPartSize(config.getMultipartPartSize().toBytes())
+            .withMaxParallelPartsPerFile(config.getMaxParallelPartsPerFile())
             .withBasePath(config.getBasePath());
     if (config.getAccessKey() != null && config.getSecretKey() != null) {
       builder.withCredentials(config.getAccessKey(), config.getSecretKey());
@@ -128,6 +149,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     result = 31 * result + (apiCallTimeout != null ? apiCallTimeout.hashCode() : 0);
     result = 31 * result + (forcePathStyleAccess ? 1 : 0);
     result = 31 * result + (compression != null ? compression.hashCode() : 0);
+    result = 31 * result + (multipartPartSize != null ? multipartPartSize.hashCode() : 0);
+    result = 31 * result + maxParallelPartsPerFile;
     result = 31 * result + (basePath != null ? basePath.hashCode() : 0);
     return result;
   }
@@ -149,6 +172,12 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     if (!Objects.equals(compression, that.compression)) {
       return false;
     }
+    if (!Objects.equals(multipartPartSize, that.multipartPartSize)) {
+      return false;
+    }
+    if (maxParallelPartsPerFile != that.maxParallelPartsPerFile) {
+      return false;
+    }
     if (!Objects.equals(bucketName, that.bucketName)) {
       return false;
     }
@@ -194,6 +223,10 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
         + forcePathStyleAccess
         + ", compression="
         + compression
+        + ", multipartPartSize="
+        + multipartPartSize
+        + ", maxParallelPartsPerFile="
+        + maxParallelPartsPerFile
         + ", basePath="
         + basePath
         + '}';
@@ -179,7 +179,7 @@ public class PartitionStartupAndTransitionContextImpl
   @Override
   public List<ActorFuture<Void>> notifyListenersOfBecomingFollower(final long newTerm) {
     return partitionListeners.stream()
-        .map(l -> l.onBecomingFollower(getPartitionId(), newTerm))
+        .map(l -> l.onBecomingFollower(getPartitionId(), newTerm, getQueryService()))
         .collect(Collectors.toList());
   }
 
@@ -30,7 +30,9 @@ public final class CommandApiServiceImpl extends Actor
   private final CommandApiRequestHandler commandHandler;
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
+  private final IntHashSet followerQueryPartitions = new IntHashSet();
   private final ActorSchedulingService scheduler;
+  private final QueryApiCfg queryApiCfg;
 
   public CommandApiServiceImpl(
       final ServerTransport serverTransport,
@@ -38,6 +40,7 @@ public final class CommandApiServiceImpl extends Actor
       final QueryApiCfg queryApiCfg) {
     this.serverTransport = serverTransport;
     this.scheduler = scheduler;
+    this.queryApiCfg = queryApiCfg;
     commandHandler = new CommandApiRequestHandler();
     queryHandler = new QueryApiRequestHandler(queryApiCfg);
   }
@@ -59,6 +62,11 @@ public final class CommandApiServiceImpl extends Actor
       removeLeaderHandlers(leadPartition);
     }
     leadPartitions.clear();
+    for (final Integer followerPartition : followerQueryPartitions) {
+      queryHandler.removePartition(followerPartition);
+      serverTransport.unsubscribe(followerPartition, RequestType.QUERY);
+    }
+    followerQueryPartitions.clear();
     actor.runOnCompletion(
         commandHandler.closeAsync(),
         (ok, error) -> {
@@ -80,6 +88,22 @@ public final class CommandApiServiceImpl extends Actor
     return removeLeaderHandlersAsync(partitionId);
   }
 
+  @Override
+  public ActorFuture<Void> onBecomingFollower(
+      final int partitionId, final long term, final QueryService queryService) {
+    if (!queryApiCfg.isFollowerReadsEnabled() || queryService == null) {
+      return onBecomingFollower(partitionId, term);
+    }
+
+    return actor.call(
+        () -> {
+          removeLeaderHandlers(partitionId);
+          followerQueryPartitions.add(partitionId);
+          queryHandler.addFollowerPartition(partitionId, queryService);
+          serverTransport.subscribe(partitionId, RequestType.QUERY, queryHandler);
+        });
+  }
+
   @Override
   public ActorFuture<Void> onBecomingLeader(
       final int partitionId,
@@ -90,6 +114,7 @@ public final class CommandApiServiceImpl extends Actor
     actor.call(
         () -> {
           leadPartitions.add(partitionId);
+          followerQueryPartitions.remove(partitionId);
           queryHandler.addPartition(partitionId, queryService);
           serverTransport.subscribe(partitionId, RequestType.QUERY, queryHandler);
 
@@ -118,6 +143,7 @@ public final class CommandApiServiceImpl extends Actor
 
   private void cleanLeadingPartition(final int partitionId) {
     leadPartitions.remove(partitionId);
+    followerQueryPartitions.remove(partitionId);
     removeForPartitionId(partitionId);
   }
 
@@ -25,11 +25,18 @@ import java.util.Optional;
 import java.util.Set;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntHashSet;
 
 /**
  * Request handler for ExecuteQueryRequest SBE messages. When successful, it looks up the
  * bpmnProcessId of a process based on the request details. Make sure to set {@link
  * QueryApiCfg#setEnabled(boolean)} to true to enable this functionality.
+ *
+ * <p>Partitions can be registered either as leader or as follower. A follower answers from its
+ * replayed state, which may lag behind the leader. Since the process ID of a key never changes once
+ * it is created, a follower's answer is either correct or missing; if a follower cannot find the
+ * resource, it responds with a leader mismatch instead, such that the client retries on the leader
+ * and never sees a stale "not found".
  */
 @SuppressWarnings("removal")
 @Deprecated(forRemoval = true, since = "1.2.0")
@@ -39,6 +46,7 @@ public final class QueryApiRequestHandler
       EnumSet.of(ValueType.PROCESS, ValueType.PROCESS_INSTANCE, ValueType.JOB);
 
   private final Map<Integer, QueryService> queryServicePerPartition = new Int2ObjectHashMap<>();
+  private final IntHashSet followerPartitions = new IntHashSet();
   private final QueryApiCfg config;
   private final String actorName;
 
@@ -56,14 +64,31 @@ public final class QueryApiRequestHandler
   @Override
   protected void onActorClosing() {
     queryServicePerPartition.clear();
+    followerPartitions.clear();
   }
 
   public void addPartition(final int partitionId, final QueryService queryService) {
-    actor.run(() -> queryServicePerPartition.put(partitionId, queryService));
+    actor.run(
+        () -> {
+          followerPartitions.remove(partitionId);
+          queryServicePerPartition.put(partitionId, queryService);
+        });
+  }
+
+  public void addFollowerPartition(final int partitionId, final QueryService queryService) {
+    actor.run(
+        () -> {
+          followerPartitions.add(partitionId);
+          queryServicePerPartition.put(partitionId, queryService);
+        });
   }
 
   public void removePartition(final int partitionId) {
-    actor.run(() -> queryServicePerPartition.remove(partitionId));
+    actor.run(
+        () -> {
+          followerPartitions.remove(partitionId);
+          queryServicePerPartition.remove(partitionId);
+        });
   }
 
   @Override
@@ -99,6 +124,7 @@ public final class QueryApiRequestHandler
 
     try {
       return handleQuery(
+          partitionId,
           queryServicePerPartition.get(partitionId),
           requestReader.getMessageDecoder(),
           responseWriter,
@@ -114,6 +140,7 @@ public final class QueryApiRequestHandler
   }
 
   private Either<ErrorResponseWriter, QueryResponseWriter> handleQuery(
+      final int partitionId,
       final QueryService queryService,
       final ExecuteQueryRequestDecoder messageDecoder,
       final QueryResponseWriter responseWriter,
@@ -135,6 +162,12 @@ public final class QueryApiRequestHandler
         return Either.left(failOnInvalidValueType(messageDecoder, errorResponseWriter));
     }
 
+    if (bpmnProcessId.isEmpty() && followerPartitions.contains(partitionId)) {
+      // the follower may not have replayed the resource yet; let the client ask the leader instead
+      errorResponseWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorResponseWriter);
+    }
+
     if (bpmnProcessId.isEmpty()) {
       return Either.left(failOnResourceNotFound(key, messageDecoder, errorResponseWriter));
     }
@@ -207,6 +207,21 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(1000);
   }
 
+  @Test
+  void shouldSetAppendCompression() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setEnableAppendCompression(true);
+    brokerCfg.getExperimental().getRaft().setAppendCompressionThreshold(DataSize.ofKilobytes(16));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isAppendCompressionEnabled()).isTrue();
+    assertThat(partition.getPartitionConfig().getAppendCompressionThreshold()).isEqualTo(16 * 1024);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldSetSegmentFilesPreallocation(final boolean value) {
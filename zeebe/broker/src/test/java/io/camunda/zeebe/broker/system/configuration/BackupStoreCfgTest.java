@@ -89,4 +89,27 @@ final class BackupStoreCfgTest {
     assertThat(backup.getStore()).isEqualTo(BackupStoreType.S3);
     assertThat(backup.getS3()).isEqualTo(expectedConfig);
   }
+
+  @Test
+  void canConfigureS3MultipartSettings() {
+    // given
+    final var env =
+        Map.of(
+            "zeebe.broker.data.backup.store",
+            "s3",
+            "zeebe.broker.data.backup.s3.bucketName",
+            "bucket",
+            "zeebe.broker.data.backup.s3.multipartPartSize",
+            "16MB",
+            "zeebe.broker.data.backup.s3.maxParallelPartsPerFile",
+            "8");
+
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", env);
+    final var storeConfig = S3BackupStoreConfig.toStoreConfig(cfg.getData().getBackup().getS3());
+
+    // then
+    assertThat(storeConfig.multipartPartSize()).isEqualTo(16 * 1024 * 1024);
+    assertThat(storeConfig.maxParallelPartsPerFile()).isEqualTo(8);
+  }
 }
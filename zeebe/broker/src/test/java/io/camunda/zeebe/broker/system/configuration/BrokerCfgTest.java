@@ -46,6 +46,8 @@ public final class BrokerCfgTest {
       "zeebe.broker.cluster.raft.enablePriorityElection";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_QUERYAPI_ENABLED =
       "zeebe.broker.experimental.queryapi.enabled";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_QUERYAPI_FOLLOWERREADSENABLED =
+      "zeebe.broker.experimental.queryapi.followerReadsEnabled";
   private static final String ZEEBE_BROKER_DATA_DIRECTORY = "zeebe.broker.data.directory";
 
   private static final String ZEEBE_BROKER_NETWORK_HOST = "zeebe.broker.network.host";
@@ -396,6 +398,31 @@ public final class BrokerCfgTest {
     assertThat(experimentalCfg.getQueryApi().isEnabled()).isTrue();
   }
 
+  @Test
+  public void shouldDisableQueryApiFollowerReadsByDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getQueryApi().isFollowerReadsEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldOverrideQueryApiFollowerReadsViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_QUERYAPI_FOLLOWERREADSENABLED, "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getQueryApi().isFollowerReadsEnabled()).isTrue();
+  }
+
   @Test
   public void shouldReadDefaultEmbedGateway() {
     assertDefaultEmbeddedGatewayEnabled(true);
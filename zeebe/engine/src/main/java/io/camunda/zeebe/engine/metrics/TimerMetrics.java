@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class TimerMetrics {
+
+  private static final Counter DUE_DATE_CHECKS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("timer_due_date_checks_total")
+          .help(
+              "Number of checks for due timers, by whether the state was scanned or the check was"
+                  + " answered from the known lower bound of the timer due dates")
+          .labelNames("result", "partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public TimerMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void dueDateCheckScanned() {
+    DUE_DATE_CHECKS.labels("scanned", partitionIdLabel).inc();
+  }
+
+  public void dueDateCheckSkipped() {
+    DUE_DATE_CHECKS.labels("skipped", partitionIdLabel).inc();
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
@@ -19,6 +20,7 @@ import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import io.camunda.zeebe.util.FeatureFlags;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
@@ -26,23 +28,34 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
   private final DueDateChecker dueDateChecker;
+  private final TriggerTimersSideEffect triggerTimersSideEffect;
 
   public DueDateTimerChecker(
-      final TimerInstanceState timerInstanceState, final FeatureFlags featureFlags) {
+      final TimerInstanceState timerInstanceState,
+      final FeatureFlags featureFlags,
+      final TimerMetrics timerMetrics) {
+    triggerTimersSideEffect =
+        new TriggerTimersSideEffect(
+            timerInstanceState,
+            ActorClock.current(),
+            featureFlags.yieldingDueDateChecker(),
+            timerMetrics);
     dueDateChecker =
         new DueDateChecker(
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
-            new TriggerTimersSideEffect(
-                timerInstanceState, ActorClock.current(), featureFlags.yieldingDueDateChecker()));
+            triggerTimersSideEffect);
   }
 
   public void scheduleTimer(final long dueDate) {
+    triggerTimersSideEffect.onTimerScheduled(dueDate);
     dueDateChecker.schedule(dueDate);
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    // timers may have been created during replay without being scheduled
+    triggerTimersSideEffect.resetLowerBound();
     dueDateChecker.onRecovered(context);
   }
 
@@ -63,24 +76,49 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   @Override
   public void onResumed() {
+    triggerTimersSideEffect.resetLowerBound();
     dueDateChecker.onResumed();
   }
 
+  /**
+   * Writes TRIGGER commands for all due timers.
+   *
+   * <p>To avoid scanning over the due dates of already removed timers on every run, it keeps track
+   * of a lower bound of the due dates of all existing timers, and only looks for due timers
+   * starting at this lower bound. The lower bound is raised to the lowest due date found on each
+   * run, and lowered again whenever a timer with an earlier due date is scheduled. Since timers are
+   * only scheduled after they were created, any timer created concurrently to a run is found on the
+   * next run at the latest.
+   *
+   * <p>If the lower bound is not yet due, no timer can be due either. In that case the state is not
+   * read at all, and the lower bound is returned as the next due date instead.
+   */
   protected static final class TriggerTimersSideEffect
       implements Function<TaskResultBuilder, Long> {
 
+    private static final long NO_TIMERS = Long.MAX_VALUE;
+
     private final ActorClock actorClock;
 
     private final TimerInstanceState timerInstanceState;
     private final boolean yieldControl;
+    private final TimerMetrics timerMetrics;
+
+    /** The lowest due date of all timers scheduled since the last run. */
+    private final AtomicLong scheduledLowerBound = new AtomicLong(0);
+
+    /** The lowest due date found on the last run; only accessed when running. */
+    private long lowerBound = NO_TIMERS;
 
     public TriggerTimersSideEffect(
         final TimerInstanceState timerInstanceState,
         final ActorClock actorClock,
-        final boolean yieldControl) {
+        final boolean yieldControl,
+        final TimerMetrics timerMetrics) {
       this.timerInstanceState = timerInstanceState;
       this.actorClock = actorClock;
       this.yieldControl = yieldControl;
+      this.timerMetrics = timerMetrics;
     }
 
     @Override
@@ -98,7 +136,62 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
       }
 
-      return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      final long startAtDueDate = Math.min(lowerBound, scheduledLowerBound.getAndSet(NO_TIMERS));
+      if (startAtDueDate == NO_TIMERS) {
+        // there are no timers left since the last run, and no new timers were scheduled
+        timerMetrics.dueDateCheckSkipped();
+        return -1L;
+      }
+
+      if (startAtDueDate > now) {
+        lowerBound = startAtDueDate;
+        timerMetrics.dueDateCheckSkipped();
+        return startAtDueDate;
+      }
+
+      timerMetrics.dueDateCheckScanned();
+      final var lowestDueDateVisitor = new LowestDueDateVisitor(timerVisitor);
+      final long nextDueDate =
+          timerInstanceState.processTimersWithDueDateBefore(
+              now, startAtDueDate, lowestDueDateVisitor);
+
+      if (lowestDueDateVisitor.lowestDueDate != NO_TIMERS) {
+        lowerBound = lowestDueDateVisitor.lowestDueDate;
+      } else if (nextDueDate > 0) {
+        lowerBound = nextDueDate;
+      } else {
+        lowerBound = NO_TIMERS;
+      }
+
+      return nextDueDate;
+    }
+
+    void onTimerScheduled(final long dueDate) {
+      scheduledLowerBound.accumulateAndGet(dueDate, Math::min);
+    }
+
+    /** Makes sure that the next run looks for due timers starting at the first timer. */
+    void resetLowerBound() {
+      scheduledLowerBound.set(0);
+    }
+  }
+
+  private static final class LowestDueDateVisitor implements TimerVisitor {
+
+    private final TimerVisitor delegate;
+    private long lowestDueDate = TriggerTimersSideEffect.NO_TIMERS;
+
+    private LowestDueDateVisitor(final TimerVisitor delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean visit(final TimerInstance timer) {
+      // timers are visited ordered by their due date
+      if (lowestDueDate == TriggerTimersSideEffect.NO_TIMERS) {
+        lowestDueDate = timer.getDueDate();
+      }
+      return delegate.visit(timer);
     }
   }
 
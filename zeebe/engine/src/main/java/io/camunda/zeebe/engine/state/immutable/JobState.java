@@ -37,9 +37,22 @@ public interface JobState {
 
   boolean isInState(long key, State state);
 
+  default void forEachActivatableJobs(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    forEachActivatableJobs(type, tenantIds, Integer.MAX_VALUE, callback);
+  }
+
+  /**
+   * Visits the activatable jobs of the given type, owned by one of the given tenants, until the
+   * callback returns false. The expected count is a hint of how many jobs the callback will accept
+   * at most, so that no more jobs than that are read ahead of it.
+   */
   void forEachActivatableJobs(
       DirectBuffer type,
       final List<String> tenantIds,
+      int expectedCount,
       BiFunction<Long, JobRecord, Boolean> callback);
 
   JobRecord getJob(long key);
@@ -11,6 +11,8 @@ public interface MigrationState {
 
   boolean shouldRunElementInstancePopulateProcessInstanceByDefinitionKey();
 
+  boolean shouldRunMessageSubscriptionPopulateCountByNameAndCorrelationKey();
+
   /**
    * @return a string representing the version that applied migrations or null if the version is
    *     (not yet) set.
@@ -17,7 +17,21 @@ public interface TimerInstanceState {
    *
    * @return due date of the next scheduled timer (or {@code -1} if no succeeding timer exists)
    */
-  long processTimersWithDueDateBefore(long timestamp, TimerVisitor consumer);
+  default long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    return processTimersWithDueDateBefore(timestamp, 0, consumer);
+  }
+
+  /**
+   * Finds timers with due date before {@code timestamp}, and presents them to the {@code consumer}.
+   * The iteration starts at the first timer with a due date equal to or after {@code
+   * startAtDueDate}, so that all entries before it don't have to be visited. This is useful to skip
+   * over large ranges of recently removed due dates, which would otherwise still be scanned.
+   *
+   * @param startAtDueDate the lowest due date to consider; should be a lower bound of the due dates
+   *     of all existing timers, or {@code 0} to start at the first timer
+   * @return due date of the next scheduled timer (or {@code -1} if no succeeding timer exists)
+   */
+  long processTimersWithDueDateBefore(long timestamp, long startAtDueDate, TimerVisitor consumer);
 
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,11 +32,14 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  private static final int ACTIVATABLE_JOBS_BATCH_SIZE = 32;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
@@ -73,6 +77,10 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // job keys of activatable jobs, which are looked up together in a single batched read
+  private final List<DbLong> activatableJobKeyPool = new ArrayList<>();
+  private final List<DbLong> activatableJobKeys = new ArrayList<>(ACTIVATABLE_JOBS_BATCH_SIZE);
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -406,9 +414,14 @@ public final class DbJobState implements JobState, MutableJobState {
   public void forEachActivatableJobs(
       final DirectBuffer type,
       final List<String> tenantIds,
+      final int expectedCount,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    activatableJobKeys.clear();
+
+    final var visitedCount = new MutableInteger(0);
 
+    final var shouldContinue = new MutableBoolean(true);
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
@@ -416,11 +429,20 @@ public final class DbJobState implements JobState, MutableJobState {
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            addActivatableJobKey(jobKey.getValue());
+            if (activatableJobKeys.size()
+                >= activatableJobsBatchSize(expectedCount - visitedCount.get())) {
+              shouldContinue.set(visitActivatableJobs(callback, visitedCount));
+            }
+            return shouldContinue.get();
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    if (shouldContinue.get()) {
+      visitActivatableJobs(callback, visitedCount);
+    }
   }
 
   @Override
@@ -475,6 +497,55 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  private void addActivatableJobKey(final long key) {
+    final int index = activatableJobKeys.size();
+    if (index == activatableJobKeyPool.size()) {
+      activatableJobKeyPool.add(new DbLong());
+    }
+
+    final DbLong activatableJobKey = activatableJobKeyPool.get(index);
+    activatableJobKey.wrapLong(key);
+    activatableJobKeys.add(activatableJobKey);
+  }
+
+  /**
+   * Looks up all collected activatable jobs with a single batched read, and passes them to the
+   * callback in the order they were collected, until the callback returns false.
+   *
+   * @param visitedCount incremented for every job passed to the callback
+   * @return false if the callback indicated to stop the iteration, true otherwise
+   */
+  private boolean visitActivatableJobs(
+      final BiFunction<Long, JobRecord, Boolean> callback, final MutableInteger visitedCount) {
+    final var shouldContinue = new MutableBoolean(true);
+    jobsColumnFamily.multiGet(
+        activatableJobKeys,
+        (key, job) -> {
+          if (!shouldContinue.get()) {
+            return;
+          }
+
+          if (job == null) {
+            LOG.warn("Expected to find job with key {}, but no job found", key.getValue());
+            return;
+          }
+
+          visitedCount.increment();
+          shouldContinue.set(callback.apply(key.getValue(), job.getRecord()));
+        });
+    activatableJobKeys.clear();
+
+    return shouldContinue.get();
+  }
+
+  /**
+   * Reads at most as many jobs ahead as the callback is still expected to accept, so a small
+   * activation does not look up a full batch of jobs it will never use.
+   */
+  private static int activatableJobsBatchSize(final int remainingCount) {
+    return Math.clamp(remainingCount, 1, ACTIVATABLE_JOBS_BATCH_SIZE);
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -84,10 +84,22 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   }
 
   @Override
-  public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+  public long processTimersWithDueDateBefore(
+      final long timestamp, final long startAtDueDate, final TimerVisitor consumer) {
     nextDueDate = -1L;
 
+    final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>> startAtKey;
+    if (startAtDueDate > 0) {
+      dueDate.wrapLong(startAtDueDate);
+      elementInstanceKey.inner().wrapLong(0);
+      timerKey.wrapLong(0);
+      startAtKey = dueDateCompositeKey;
+    } else {
+      startAtKey = null;
+    }
+
     dueDateColumnFamily.whileTrue(
+        startAtKey,
         (key, nil) -> {
           final var dueDate = key.first().getValue();
           final var elementAndTimerKey = key.second();
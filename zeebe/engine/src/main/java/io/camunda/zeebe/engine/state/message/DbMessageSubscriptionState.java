@@ -54,6 +54,13 @@ public final class DbMessageSubscriptionState
           DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  // (tenant aware messageName, correlationKey) => number of subscriptions
+  // the count is looked up with a single get, which the whole key bloom filters can answer without
+  // reading any data block if there is no subscription for the correlation key
+  private final DbLong subscriptionCount;
+  private final ColumnFamily<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>
+      subscriptionCountColumnFamily;
+
   private final TransientPendingSubscriptionState transientState;
 
   public DbMessageSubscriptionState(
@@ -85,6 +92,14 @@ public final class DbMessageSubscriptionState
             transactionContext,
             tenantAwareNameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
+
+    subscriptionCount = new DbLong();
+    subscriptionCountColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_COUNT_BY_NAME_AND_CORRELATION_KEY,
+            transactionContext,
+            tenantAwareNameAndCorrelationKey,
+            subscriptionCount);
     this.transientState = transientState;
   }
 
@@ -119,6 +134,12 @@ public final class DbMessageSubscriptionState
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    // most published messages have no waiting subscription; a point lookup is much cheaper than
+    // seeking into the prefix, since the prefix extractor only covers the column family prefix
+    if (!subscriptionCountColumnFamily.exists(tenantAwareNameAndCorrelationKey)) {
+      return;
+    }
+
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         tenantAwareNameAndCorrelationKey,
         (compositeKey, nil) -> {
@@ -147,6 +168,7 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.insert(
         tenantAwareNameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+    incrementSubscriptionCount();
   }
 
   @Override
@@ -220,6 +242,7 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.deleteExisting(
         tenantAwareNameCorrelationAndElementInstanceKey);
+    decrementSubscriptionCount();
 
     transientState.remove(
         new PendingSubscription(
@@ -245,6 +268,22 @@ public final class DbMessageSubscriptionState
     subscriptionColumnFamily.update(elementKeyAndMessageName, messageSubscription);
   }
 
+  private void incrementSubscriptionCount() {
+    final var count = subscriptionCountColumnFamily.get(tenantAwareNameAndCorrelationKey);
+    subscriptionCount.wrapLong(count == null ? 1 : count.getValue() + 1);
+    subscriptionCountColumnFamily.upsert(tenantAwareNameAndCorrelationKey, subscriptionCount);
+  }
+
+  private void decrementSubscriptionCount() {
+    final var count = subscriptionCountColumnFamily.get(tenantAwareNameAndCorrelationKey);
+    if (count == null || count.getValue() <= 1) {
+      subscriptionCountColumnFamily.deleteIfExists(tenantAwareNameAndCorrelationKey);
+    } else {
+      subscriptionCount.wrapLong(count.getValue() - 1);
+      subscriptionCountColumnFamily.update(tenantAwareNameAndCorrelationKey, subscriptionCount);
+    }
+  }
+
   private void updateCorrelatingFlag(
       final MessageSubscription subscription, final boolean correlating) {
     final var record = subscription.getRecord();
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_6;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.migration.MigrationTaskState;
+import io.camunda.zeebe.engine.state.migration.MigrationTaskState.State;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+public final class DbMessageSubscriptionCountMigrationState {
+
+  private static final String MIGRATION_IDENTIFIER = "MessageSubscriptionCountMigration";
+
+  // (tenant aware messageName, correlationKey, elementInstanceKey) => \0
+  private final DbString tenantIdKey;
+  private final DbString messageName;
+  private final DbString correlationKey;
+  private final DbTenantAwareKey<DbCompositeKey<DbString, DbString>>
+      tenantAwareNameAndCorrelationKey;
+  private final ColumnFamily<
+          DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
+      messageNameAndCorrelationKeyColumnFamily;
+
+  // (tenant aware messageName, correlationKey) => number of subscriptions
+  private final DbLong subscriptionCount;
+  private final ColumnFamily<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>
+      subscriptionCountColumnFamily;
+
+  // migration identifier => state of the migration
+  private final DbString migrationIdentifier;
+  private final MigrationTaskState migrationTaskState;
+  private final ColumnFamily<DbString, MigrationTaskState> migrationStateColumnFamily;
+
+  public DbMessageSubscriptionCountMigrationState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    tenantIdKey = new DbString();
+    messageName = new DbString();
+    correlationKey = new DbString();
+    tenantAwareNameAndCorrelationKey =
+        new DbTenantAwareKey<>(
+            tenantIdKey, new DbCompositeKey<>(messageName, correlationKey), PlacementType.PREFIX);
+    messageNameAndCorrelationKeyColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
+            transactionContext,
+            new DbCompositeKey<>(tenantAwareNameAndCorrelationKey, new DbLong()),
+            DbNil.INSTANCE);
+
+    subscriptionCount = new DbLong();
+    subscriptionCountColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_COUNT_BY_NAME_AND_CORRELATION_KEY,
+            transactionContext,
+            tenantAwareNameAndCorrelationKey,
+            subscriptionCount);
+
+    migrationIdentifier = new DbString();
+    migrationIdentifier.wrapString(MIGRATION_IDENTIFIER);
+    migrationTaskState = new MigrationTaskState();
+    migrationStateColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MIGRATIONS_STATE,
+            transactionContext,
+            migrationIdentifier,
+            migrationTaskState);
+  }
+
+  /**
+   * The counts are maintained together with the subscriptions, so they only have to be built once
+   * for the subscriptions which were created by a version which didn't know about them yet. The
+   * migration marks itself as finished afterwards, since the counts alone can't tell whether they
+   * were built by the migration or by processing.
+   */
+  public boolean shouldPopulateSubscriptionCount() {
+    final var state = migrationStateColumnFamily.get(migrationIdentifier);
+    if (state != null && state.getState() == State.FINISHED) {
+      return false;
+    }
+
+    return !messageNameAndCorrelationKeyColumnFamily.isEmpty()
+        || !subscriptionCountColumnFamily.isEmpty();
+  }
+
+  /**
+   * Builds the counts from the subscriptions and marks the migration as finished. Existing counts
+   * are discarded first, so the result is the actual number of subscriptions per key, even if some
+   * counts were already written before the migration ran.
+   */
+  public void populateSubscriptionCount() {
+    subscriptionCountColumnFamily.forEach(
+        (key, count) -> subscriptionCountColumnFamily.deleteExisting(key));
+
+    // the subscriptions are ordered by their key, so all subscriptions of the same message name
+    // and correlation key are visited one after the other
+    messageNameAndCorrelationKeyColumnFamily.forEach(
+        (key, nil) -> {
+          final var count = subscriptionCountColumnFamily.get(tenantAwareNameAndCorrelationKey);
+          subscriptionCount.wrapLong(count == null ? 1 : count.getValue() + 1);
+          subscriptionCountColumnFamily.upsert(tenantAwareNameAndCorrelationKey, subscriptionCount);
+        });
+
+    migrationTaskState.setState(State.FINISHED);
+    migrationStateColumnFamily.upsert(migrationIdentifier, migrationTaskState);
+  }
+}
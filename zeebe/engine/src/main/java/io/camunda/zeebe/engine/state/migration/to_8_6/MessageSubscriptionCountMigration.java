@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_6;
+
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.migration.MigrationTask;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+
+/**
+ * This migration is used to initially fill the
+ * MESSAGE_SUBSCRIPTION_COUNT_BY_NAME_AND_CORRELATION_KEY ColumnFamily. It will go over all the
+ * message subscriptions and count them by their tenant, message name and correlation key.
+ *
+ * <p>The migration runs only once; afterwards the counts are maintained together with the
+ * subscriptions.
+ */
+public class MessageSubscriptionCountMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public boolean needsToRun(final ProcessingState processingState) {
+    return processingState
+        .getMigrationState()
+        .shouldRunMessageSubscriptionPopulateCountByNameAndCorrelationKey();
+  }
+
+  @Override
+  public void runMigration(final MutableProcessingState processingState) {
+    processingState
+        .getMigrationState()
+        .migrateMessageSubscriptionPopulateCountByNameAndCorrelationKey();
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.engine.util.client.PublishMessageClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures publishing messages which no subscription waits for, while the state holds many buffered
+ * messages and subscriptions with the same message name and distinct correlation keys.
+ */
+@Warmup(iterations = 50, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 25, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MessageCorrelationLargeStatePerformanceTest {
+  public static final Logger LOG =
+      LoggerFactory.getLogger(MessageCorrelationLargeStatePerformanceTest.class.getName());
+
+  private static final String MESSAGE_NAME = "message";
+
+  private long count;
+  private TestEngine.TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+
+    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+
+    setupState(singlePartitionEngine);
+  }
+
+  /** Will build up a state of buffered messages and waiting subscriptions */
+  private void setupState(final TestEngine singlePartitionEngine) {
+    singlePartitionEngine
+        .createDeploymentClient()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .intermediateCatchEvent(
+                    "catch", c -> c.message(m -> m.name(MESSAGE_NAME).zeebeCorrelationKey("=key")))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final ProcessInstanceClient processInstanceClient =
+        singlePartitionEngine.createProcessInstanceClient();
+
+    final int maxCount = 100_000;
+    LOG.info("Buffering {} messages and creating {} subscriptions...", maxCount, maxCount);
+    for (int i = 0; i < maxCount; i++) {
+      singlePartitionEngine
+          .createPublishMessageClient()
+          .withName(MESSAGE_NAME)
+          .withCorrelationKey("buffered-" + i)
+          .publish();
+      processInstanceClient.ofBpmnProcessId("process").withVariable("key", "waiting-" + i).create();
+      RecordingExporter.reset();
+
+      if ((i % 10000) == 0) {
+        LOG.info("\t{} messages and subscriptions already created.", i);
+        singlePartitionEngine.reset();
+      }
+    }
+
+    LOG.info("Created {} messages and subscriptions.", maxCount);
+  }
+
+  private TestEngine.TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    // scheduler
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock());
+
+    final var actorScheduler = builder.build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    LOG.info("Published {} messages without subscription", count);
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<MessageRecordValue> measurePublishWithoutSubscription() {
+    final PublishMessageClient publishMessageClient =
+        singlePartitionEngine
+            .createPublishMessageClient()
+            .withName(MESSAGE_NAME)
+            .withCorrelationKey("published-" + count);
+
+    final Record<MessageRecordValue> published = publishMessageClient.publish();
+
+    count++;
+    singlePartitionEngine.reset();
+    return published;
+  }
+
+  @JMHTest("measurePublishWithoutSubscription")
+  void shouldPublishWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, measured locally at ~4600 ops/s
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 3000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
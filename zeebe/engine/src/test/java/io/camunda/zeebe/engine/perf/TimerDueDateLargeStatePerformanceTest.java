@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TimerInstance;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures firing due timers after a million timers were already fired and removed, the way the due
+ * date checker does it: visit the due timers starting at the lower bound of the live due dates,
+ * then remove them. The removed due dates stay behind as tombstones below the lower bound.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 25, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TimerDueDateLargeStatePerformanceTest {
+  public static final Logger LOG =
+      LoggerFactory.getLogger(TimerDueDateLargeStatePerformanceTest.class.getName());
+
+  private static final int FIRED_TIMERS = 1_000_000;
+  private static final int TIMERS_PER_RUN = 1_000;
+  // timers of process start events don't belong to an element instance
+  private static final long NO_ELEMENT_INSTANCE = -1L;
+
+  private final TimerInstance timer = new TimerInstance();
+  private final long[] dueTimers = new long[TIMERS_PER_RUN];
+  private TemporaryFolder temporaryFolder;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private MutableTimerInstanceState timerState;
+  private long lastTimerKey;
+  private long lowerBound;
+
+  @Setup
+  public void setup() throws IOException {
+    temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(temporaryFolder.getRoot());
+    transactionContext = zeebeDb.createContext();
+    final var processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration());
+    timerState = processingState.getTimerState();
+
+    LOG.info("Firing {} timers, please hold the line...", FIRED_TIMERS);
+    for (int i = 0; i < FIRED_TIMERS / TIMERS_PER_RUN; i++) {
+      fireTimers();
+    }
+    LOG.info("Fired {} timers.", lastTimerKey);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    LOG.info("Fired {} timers", lastTimerKey);
+    zeebeDb.close();
+    temporaryFolder.delete();
+  }
+
+  @Benchmark
+  public int measureFireTimers() {
+    return fireTimers();
+  }
+
+  /**
+   * Creates a run of timers which are due right away, then visits and removes them. Each run is due
+   * after the previous one, so the removed due dates are all below the next lower bound. The timer
+   * key doubles as due date.
+   */
+  private int fireTimers() {
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < TIMERS_PER_RUN; i++) {
+            lastTimerKey++;
+            timer.setElementInstanceKey(NO_ELEMENT_INSTANCE);
+            timer.setKey(lastTimerKey);
+            timer.setDueDate(lastTimerKey);
+            timerState.store(timer);
+          }
+        });
+
+    final var visited = new int[1];
+    transactionContext.runInTransaction(
+        () -> {
+          final long nextDueDate =
+              timerState.processTimersWithDueDateBefore(
+                  lastTimerKey,
+                  lowerBound,
+                  t -> {
+                    dueTimers[visited[0]++] = t.getKey();
+                    return true;
+                  });
+          lowerBound = nextDueDate == -1 ? lastTimerKey + 1 : nextDueDate;
+
+          for (int i = 0; i < visited[0]; i++) {
+            timer.setElementInstanceKey(NO_ELEMENT_INSTANCE);
+            timer.setKey(dueTimers[i]);
+            timer.setDueDate(dueTimers[i]);
+            timerState.remove(timer);
+          }
+        });
+    return visited[0];
+  }
+
+  @JMHTest("measureFireTimers")
+  void shouldFireTimersWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, measured locally at ~21 ops/s (1000 timers per op)
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 15;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.TriggerTimersSideEffect;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.YieldingDecorator;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
@@ -61,7 +62,9 @@ class DueDateTimerCheckerTest {
           new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
               mockTimer, testActorClock);
 
-      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
+      final var sut =
+          new TriggerTimersSideEffect(
+              testTimerInstanceState, testActorClock, true, new TimerMetrics(1));
 
       // when
       sut.apply(mockTaskResultBuilder);
@@ -103,7 +106,9 @@ class DueDateTimerCheckerTest {
           new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
               mockTimer, testActorClock);
 
-      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
+      final var sut =
+          new TriggerTimersSideEffect(
+              testTimerInstanceState, testActorClock, true, new TimerMetrics(1));
 
       // when
       sut.apply(mockTaskResultBuilder);
@@ -114,6 +119,113 @@ class DueDateTimerCheckerTest {
     }
   }
 
+  @Nested
+  final class LowerBoundTest {
+
+    private final TestActorClock testActorClock = new TestActorClock();
+    private final TaskResultBuilder mockTaskResultBuilder = mock(TaskResultBuilder.class);
+    private TimerInstanceState mockTimerInstanceState;
+    private TriggerTimersSideEffect sut;
+
+    @BeforeEach
+    void setUp() {
+      testActorClock.setTime(1000L);
+      mockTimerInstanceState = mock(TimerInstanceState.class);
+      sut =
+          new TriggerTimersSideEffect(
+              mockTimerInstanceState, testActorClock, false, new TimerMetrics(1));
+    }
+
+    @Test
+    void shouldStartAtFirstTimerOnFirstRun() {
+      // when
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      verify(mockTimerInstanceState).processTimersWithDueDateBefore(eq(1000L), eq(0L), any());
+    }
+
+    @Test
+    void shouldStartAtNextDueDateOfLastRun() {
+      // given
+      when(mockTimerInstanceState.processTimersWithDueDateBefore(anyLong(), anyLong(), any()))
+          .thenReturn(5000L);
+      sut.apply(mockTaskResultBuilder);
+
+      // when
+      testActorClock.setTime(6000L);
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      verify(mockTimerInstanceState).processTimersWithDueDateBefore(eq(6000L), eq(5000L), any());
+    }
+
+    @Test
+    void shouldNotLookForTimersIfLowerBoundIsNotDue() {
+      // given
+      when(mockTimerInstanceState.processTimersWithDueDateBefore(anyLong(), anyLong(), any()))
+          .thenReturn(5000L);
+      sut.apply(mockTaskResultBuilder);
+
+      // when
+      testActorClock.setTime(4000L);
+      final var nextDueDate = sut.apply(mockTaskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(5000L);
+      verify(mockTimerInstanceState, times(1))
+          .processTimersWithDueDateBefore(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void shouldStartAtEarlierScheduledTimer() {
+      // given
+      when(mockTimerInstanceState.processTimersWithDueDateBefore(anyLong(), anyLong(), any()))
+          .thenReturn(5000L);
+      sut.apply(mockTaskResultBuilder);
+
+      // when
+      sut.onTimerScheduled(3000L);
+      testActorClock.setTime(4000L);
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      verify(mockTimerInstanceState).processTimersWithDueDateBefore(eq(4000L), eq(3000L), any());
+    }
+
+    @Test
+    void shouldNotLookForTimersIfNoneAreLeft() {
+      // given
+      when(mockTimerInstanceState.processTimersWithDueDateBefore(anyLong(), anyLong(), any()))
+          .thenReturn(-1L);
+      sut.apply(mockTaskResultBuilder);
+
+      // when
+      final var nextDueDate = sut.apply(mockTaskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(-1L);
+      verify(mockTimerInstanceState, times(1))
+          .processTimersWithDueDateBefore(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void shouldStartAtFirstTimerAfterReset() {
+      // given
+      when(mockTimerInstanceState.processTimersWithDueDateBefore(anyLong(), anyLong(), any()))
+          .thenReturn(-1L);
+      sut.apply(mockTaskResultBuilder);
+
+      // when
+      sut.resetLowerBound();
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      verify(mockTimerInstanceState, times(2))
+          .processTimersWithDueDateBefore(eq(1000L), eq(0L), any());
+    }
+  }
+
   @Nested
   final class YieldingDecoratorTest {
 
@@ -221,7 +333,8 @@ class DueDateTimerCheckerTest {
     }
 
     @Override
-    public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    public long processTimersWithDueDateBefore(
+        final long timestamp, final long startAtDueDate, final TimerVisitor consumer) {
       var yield = false;
 
       while (!yield) {
@@ -641,6 +641,68 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListManyActivatableJobsInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final List<Long> expectedKeys = new ArrayList<>();
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+      expectedKeys.add(key);
+    }
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(jobKeys).containsExactlyElementsOf(expectedKeys);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsWhenCallbackReturnsFalse() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 40;
+        });
+
+    // then
+    assertThat(jobKeys).hasSize(40).startsWith(1L, 2L, 3L).endsWith(40L);
+  }
+
+  @Test
+  public void shouldKeepListingActivatableJobsBeyondExpectedCount() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        3,
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 40;
+        });
+
+    // then
+    assertThat(jobKeys).hasSize(40).startsWith(1L, 2L, 3L, 4L).endsWith(40L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
@@ -16,6 +16,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
@@ -111,6 +112,50 @@ public final class TimerInstanceStateTest {
     assertThat(keys).hasSize(2).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldFindTimersWithDueDateStartingAtDueDate() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 3000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(
+            2000L, 1500L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(2L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldNotVisitRemovedTimersBeforeLowerBound() {
+    // given - many due timers which were visited and removed afterwards, e.g. once triggered
+    final int visitedTimers = 10_000;
+    final List<TimerInstance> timers = new ArrayList<>();
+    for (int i = 1; i <= visitedTimers; i++) {
+      timers.add(createTimerInstance(i, i, i));
+    }
+    createTimerInstance(visitedTimers + 1, visitedTimers + 1, 50_000L);
+    final var firstRunVisits = new AtomicInteger();
+    final long lowerBound =
+        state.processTimersWithDueDateBefore(
+            visitedTimers, 0, t -> firstRunVisits.incrementAndGet() > 0);
+    timers.forEach(state::remove);
+
+    // when
+    final var secondRunVisits = new AtomicInteger();
+    state.processTimersWithDueDateBefore(
+        60_000L, lowerBound, t -> secondRunVisits.incrementAndGet() > 0);
+
+    // then
+    assertThat(firstRunVisits).hasValue(visitedTimers);
+    assertThat(lowerBound).isEqualTo(50_000L);
+    assertThat(secondRunVisits).hasValue(1);
+  }
+
   @Test
   public void shouldReturnNextDueDate() {
     // given
@@ -184,6 +184,45 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldNotVisitSubscriptionsAfterAllAreRemoved() {
+    // given
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+    state.put(2L, subscription("messageName", "correlationKey", 2L));
+    state.remove(1L, wrapString("messageName"));
+    state.remove(2L, wrapString("messageName"));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        DEFAULT_TENANT,
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+
+    // then
+    assertThat(keys).isEmpty();
+  }
+
+  @Test
+  public void shouldVisitSubscriptionAddedAfterAllWereRemoved() {
+    // given
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+    state.remove(1L, wrapString("messageName"));
+    state.put(2L, subscription("messageName", "correlationKey", 2L));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        DEFAULT_TENANT,
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(2L);
+  }
+
   private MessageSubscriptionRecord subscriptionWithElementInstanceKey(
       final long elementInstanceKey) {
     return subscription("messageName", "correlationKey", elementInstanceKey);
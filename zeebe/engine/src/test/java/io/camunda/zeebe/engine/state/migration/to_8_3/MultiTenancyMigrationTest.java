@@ -43,6 +43,7 @@ import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyMessageSubscr
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessState;
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessState.LegacyProcessVersionManager;
+import io.camunda.zeebe.engine.state.migration.to_8_6.MessageSubscriptionCountMigration;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
 import io.camunda.zeebe.model.bpmn.Bpmn;
@@ -732,6 +733,9 @@ public class MultiTenancyMigrationTest {
 
       // when
       sut.runMigration(processingState);
+      // the subscriptions are only visited by correlation key once they are counted, which is done
+      // by a later migration
+      new MessageSubscriptionCountMigration().runMigration(processingState);
 
       // then
       final AtomicReference<MessageSubscription> subscriptionRef = new AtomicReference<>();
@@ -0,0 +1,261 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_6;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageSubscriptionRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+class MessageSubscriptionCountMigrationTest {
+
+  private static final String TENANT = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+
+  final MessageSubscriptionCountMigration sut = new MessageSubscriptionCountMigration();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+
+  private DbString tenantIdKey;
+  private DbString messageName;
+  private DbString correlationKey;
+  private DbLong elementInstanceKey;
+  private DbTenantAwareKey<DbCompositeKey<DbString, DbString>> tenantAwareNameAndCorrelationKey;
+  private DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>
+      tenantAwareNameCorrelationAndElementInstanceKey;
+  private ColumnFamily<
+          DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
+      messageNameAndCorrelationKeyColumnFamily;
+  private ColumnFamily<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>
+      subscriptionCountColumnFamily;
+
+  @BeforeEach
+  void setup() {
+    tenantIdKey = new DbString();
+    messageName = new DbString();
+    correlationKey = new DbString();
+    elementInstanceKey = new DbLong();
+    tenantAwareNameAndCorrelationKey =
+        new DbTenantAwareKey<>(
+            tenantIdKey, new DbCompositeKey<>(messageName, correlationKey), PlacementType.PREFIX);
+    tenantAwareNameCorrelationAndElementInstanceKey =
+        new DbCompositeKey<>(tenantAwareNameAndCorrelationKey, elementInstanceKey);
+    messageNameAndCorrelationKeyColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
+            transactionContext,
+            tenantAwareNameCorrelationAndElementInstanceKey,
+            DbNil.INSTANCE);
+    subscriptionCountColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_COUNT_BY_NAME_AND_CORRELATION_KEY,
+            transactionContext,
+            tenantAwareNameAndCorrelationKey,
+            new DbLong());
+  }
+
+  @Test
+  void shouldCountSubscriptionsByNameAndCorrelationKey() {
+    // given
+    insertSubscription("message", "key-1", 1L);
+    insertSubscription("message", "key-1", 2L);
+    insertSubscription("message", "key-2", 3L);
+    insertSubscription("other-message", "key-1", 4L);
+
+    // when
+    sut.runMigration(processingState);
+
+    // then
+    assertThat(getCount("message", "key-1")).isEqualTo(2L);
+    assertThat(getCount("message", "key-2")).isEqualTo(1L);
+    assertThat(getCount("other-message", "key-1")).isEqualTo(1L);
+    assertThat(getCount("other-message", "key-2")).isNull();
+  }
+
+  @Test
+  void migrationNeededWhenSubscriptionsAreNotCounted() {
+    // given
+    insertSubscription("message", "key-1", 1L);
+
+    // when
+    final var actual = sut.needsToRun(processingState);
+
+    // then
+    assertThat(actual).isTrue();
+  }
+
+  @Test
+  void noMigrationNeededWhenThereAreNoSubscriptions() {
+    // when
+    final var actual = sut.needsToRun(processingState);
+
+    // then
+    assertThat(actual).isFalse();
+  }
+
+  @Test
+  void noMigrationNeededWhenMigrationAlreadyRan() {
+    // given
+    insertSubscription("message", "key-1", 1L);
+    sut.runMigration(processingState);
+
+    // when
+    final var actual = sut.needsToRun(processingState);
+
+    // then
+    assertThat(actual).isFalse();
+  }
+
+  @Test
+  void noMigrationNeededWhenMigrationAlreadyRanAndMoreSubscriptionsWereCreated() {
+    // given
+    insertSubscription("message", "key-1", 1L);
+    sut.runMigration(processingState);
+    insertSubscription("message", "key-2", 2L);
+    setCount("message", "key-2", 1L);
+
+    // when
+    final var actual = sut.needsToRun(processingState);
+
+    // then
+    assertThat(actual).isFalse();
+  }
+
+  @Test
+  void migrationNeededWhenOnlyCountsExist() {
+    // given
+    setCount("message", "key-1", 1L);
+
+    // when
+    final var actual = sut.needsToRun(processingState);
+
+    // then
+    assertThat(actual).isTrue();
+  }
+
+  @Test
+  void shouldCorrectCountsWhichAreInconsistentWithSubscriptions() {
+    // given - counts written before the migration ran, which don't match the subscriptions
+    insertSubscription("message", "missing-count", 1L);
+    insertSubscription("message", "too-low", 2L);
+    insertSubscription("message", "too-low", 3L);
+    setCount("message", "too-low", 1L);
+    insertSubscription("message", "too-high", 4L);
+    setCount("message", "too-high", 5L);
+    setCount("message", "stale", 1L);
+
+    // when
+    sut.runMigration(processingState);
+
+    // then
+    assertThat(getCount("message", "missing-count")).isEqualTo(1L);
+    assertThat(getCount("message", "too-low")).isEqualTo(2L);
+    assertThat(getCount("message", "too-high")).isEqualTo(1L);
+    assertThat(getCount("message", "stale")).isNull();
+  }
+
+  @Test
+  void shouldNotChangeCountsWhenRunAgain() {
+    // given
+    insertSubscription("message", "key-1", 1L);
+    insertSubscription("message", "key-1", 2L);
+    insertSubscription("message", "key-2", 3L);
+    sut.runMigration(processingState);
+
+    // when
+    sut.runMigration(processingState);
+
+    // then
+    assertThat(getCount("message", "key-1")).isEqualTo(2L);
+    assertThat(getCount("message", "key-2")).isEqualTo(1L);
+  }
+
+  @Test
+  void shouldVisitSubscriptionsAfterMissingCountIsRestored() {
+    // given - a subscription whose count was lost, which hides it from correlation
+    final var subscriptionState = processingState.getMessageSubscriptionState();
+    subscriptionState.put(
+        1L,
+        new MessageSubscriptionRecord()
+            .setProcessInstanceKey(3L)
+            .setBpmnProcessId(BufferUtil.wrapString("process"))
+            .setMessageName(BufferUtil.wrapString("message"))
+            .setCorrelationKey(BufferUtil.wrapString("key-1"))
+            .setElementInstanceKey(2L)
+            .setInterrupting(true)
+            .setTenantId(TENANT));
+    setCount("message", "key-1", 0L);
+    subscriptionCountColumnFamily.deleteExisting(tenantAwareNameAndCorrelationKey);
+    assertThat(visitSubscriptions("message", "key-1")).isEmpty();
+
+    // when
+    sut.runMigration(processingState);
+
+    // then
+    assertThat(visitSubscriptions("message", "key-1")).containsExactly(1L);
+  }
+
+  private void insertSubscription(
+      final String name, final String correlation, final long elementInstance) {
+    tenantIdKey.wrapString(TENANT);
+    messageName.wrapString(name);
+    correlationKey.wrapString(correlation);
+    elementInstanceKey.wrapLong(elementInstance);
+    messageNameAndCorrelationKeyColumnFamily.insert(
+        tenantAwareNameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+  }
+
+  private void setCount(final String name, final String correlation, final long count) {
+    tenantIdKey.wrapString(TENANT);
+    messageName.wrapString(name);
+    correlationKey.wrapString(correlation);
+    final var value = new DbLong();
+    value.wrapLong(count);
+    subscriptionCountColumnFamily.upsert(tenantAwareNameAndCorrelationKey, value);
+  }
+
+  private List<Long> visitSubscriptions(final String name, final String correlation) {
+    final var keys = new ArrayList<Long>();
+    processingState
+        .getMessageSubscriptionState()
+        .visitSubscriptions(
+            TENANT,
+            BufferUtil.wrapString(name),
+            BufferUtil.wrapString(correlation),
+            subscription -> keys.add(subscription.getKey()));
+    return keys;
+  }
+
+  private Long getCount(final String name, final String correlation) {
+    tenantIdKey.wrapString(TENANT);
+    messageName.wrapString(name);
+    correlationKey.wrapString(correlation);
+    final var count = subscriptionCountColumnFamily.get(tenantAwareNameAndCorrelationKey);
+    return count == null ? null : count.getValue();
+  }
+}
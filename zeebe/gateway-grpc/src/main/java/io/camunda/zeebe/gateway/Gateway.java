@@ -374,7 +374,7 @@ public final class Gateway implements CloseableSilently {
 
   private ServerServiceDefinition applyInterceptors(final BindableService service) {
     final var repository = new InterceptorRepository().load(gatewayCfg.getInterceptors());
-    final var queryApi = new QueryApiImpl(brokerClient);
+    final var queryApi = new QueryApiImpl(brokerClient, gatewayCfg.getQueryApi());
     final List<ServerInterceptor> interceptors =
         repository.instantiate().map(DecoratedInterceptor::decorate).collect(Collectors.toList());
 
@@ -15,12 +15,14 @@ import io.camunda.zeebe.protocol.record.ExecuteQueryResponseDecoder;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 
 public final class BrokerExecuteQuery extends BrokerRequest<String> {
   private final ExecuteQueryRequest request = new ExecuteQueryRequest();
   private final ExecuteQueryResponse response = new ExecuteQueryResponse();
+  private Integer brokerId;
 
   public BrokerExecuteQuery() {
     super(ExecuteQueryResponseDecoder.SCHEMA_ID, ExecuteQueryResponseDecoder.TEMPLATE_ID);
@@ -34,6 +36,19 @@ public final class BrokerExecuteQuery extends BrokerRequest<String> {
     request.setValueType(valueType);
   }
 
+  /**
+   * Sends the request to the given broker instead of the leader of the partition, e.g. to let a
+   * follower answer it.
+   */
+  public void setBrokerId(final int brokerId) {
+    this.brokerId = brokerId;
+  }
+
+  @Override
+  public Optional<Integer> getBrokerId() {
+    return Optional.ofNullable(brokerId);
+  }
+
   @Override
   public int getPartitionId() {
     return request.getPartitionId();
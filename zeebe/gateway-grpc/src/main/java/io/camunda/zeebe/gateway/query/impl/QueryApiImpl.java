@@ -8,18 +8,37 @@
 package io.camunda.zeebe.gateway.query.impl;
 
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.gateway.impl.configuration.QueryApiCfg;
 import io.camunda.zeebe.gateway.query.QueryApi;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Sends queries to the partition which owns the key. If follower reads are enabled, the query is
+ * sent to a random follower of the partition first, to take load off the leader. The follower only
+ * answers if it already replayed the resource; on any failure, e.g. a leader mismatch, a timeout,
+ * or a follower which doesn't serve queries, the query is retried on the leader. The follower
+ * attempt is capped at half of the timeout, so the leader only gets the remaining half.
+ */
 public final class QueryApiImpl implements QueryApi {
+  private static final int NO_FOLLOWER = BrokerClusterState.UNKNOWN_NODE_ID;
+
   private final BrokerClient client;
+  private final boolean followerReadsEnabled;
 
   public QueryApiImpl(final BrokerClient client) {
+    this(client, new QueryApiCfg());
+  }
+
+  public QueryApiImpl(final BrokerClient client, final QueryApiCfg config) {
     this.client = client;
+    followerReadsEnabled = config.isFollowerReadsEnabled();
   }
 
   @Override
@@ -57,13 +76,36 @@ public final class QueryApiImpl implements QueryApi {
       final ValueType valueType,
       final Duration timeout,
       final CompletableFuture<String> result) {
-    final var request = new BrokerExecuteQuery();
     final var partitionId = Protocol.decodePartitionId(key);
+    final var follower = followerReadsEnabled ? pickFollower(partitionId) : NO_FOLLOWER;
+    if (follower == NO_FOLLOWER) {
+      sendToLeader(createRequest(key, partitionId, valueType), timeout, result);
+      return;
+    }
 
-    request.setKey(key);
-    request.setPartitionId(partitionId);
-    request.setValueType(valueType);
+    // leave the leader enough time to answer if the follower can't
+    final var followerTimeout = timeout.dividedBy(2);
+    final var request = createRequest(key, partitionId, valueType);
+    request.setBrokerId(follower);
+    client
+        .sendRequest(request, followerTimeout)
+        .whenComplete(
+            (response, error) -> {
+              if (error == null) {
+                result.complete(response.getResponse());
+              } else {
+                sendToLeader(
+                    createRequest(key, partitionId, valueType),
+                    timeout.minus(followerTimeout),
+                    result);
+              }
+            });
+  }
 
+  private void sendToLeader(
+      final BrokerExecuteQuery request,
+      final Duration timeout,
+      final CompletableFuture<String> result) {
     client
         .sendRequestWithRetry(request, timeout)
         .whenComplete(
@@ -75,4 +117,28 @@ public final class QueryApiImpl implements QueryApi {
               }
             });
   }
+
+  private BrokerExecuteQuery createRequest(
+      final long key, final int partitionId, final ValueType valueType) {
+    final var request = new BrokerExecuteQuery();
+    request.setKey(key);
+    request.setPartitionId(partitionId);
+    request.setValueType(valueType);
+    return request;
+  }
+
+  private int pickFollower(final int partitionId) {
+    final var topology = client.getTopologyManager().getTopology();
+    if (topology == null) {
+      return NO_FOLLOWER;
+    }
+
+    final var followers = topology.getFollowersForPartition(partitionId);
+    if (followers == null || followers.isEmpty()) {
+      return NO_FOLLOWER;
+    }
+
+    final var candidates = List.copyOf(followers);
+    return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+  }
 }
@@ -13,11 +13,15 @@ import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.dto.BrokerError;
 import io.camunda.zeebe.broker.client.api.dto.BrokerErrorResponse;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.broker.client.impl.BrokerClusterStateImpl;
 import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.configuration.QueryApiCfg;
+import io.camunda.zeebe.gateway.query.impl.BrokerExecuteQuery;
 import io.camunda.zeebe.gateway.query.impl.QueryApiImpl;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import org.junit.Test;
@@ -85,6 +89,89 @@ public final class QueryApiTest extends GatewayTest {
         .isInstanceOf(BrokerErrorException.class);
   }
 
+  @Test
+  public void shouldSendQueryToLeaderIfFollowerReadsAreDisabled() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var api = new QueryApiImpl(brokerClient);
+    final var timeout = Duration.ofSeconds(5);
+    addFollower(1, 1);
+    new QueryStub(new BrokerResponse<>("myProcess", 1, 1)).registerWith(brokerClient);
+
+    // when
+    final var result = querier.query(api, key, timeout);
+
+    // then
+    assertThat(result).succeedsWithin(timeout).isEqualTo("myProcess");
+    final BrokerExecuteQuery request = brokerClient.getSingleBrokerRequest();
+    assertThat(request.getBrokerId()).isEmpty();
+  }
+
+  @Test
+  public void shouldSendQueryToFollower() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var api = new QueryApiImpl(brokerClient, new QueryApiCfg().setFollowerReadsEnabled(true));
+    final var timeout = Duration.ofSeconds(5);
+    addFollower(1, 1);
+    new QueryStub(new BrokerResponse<>("myProcess", 1, 1)).registerWith(brokerClient);
+
+    // when
+    final var result = querier.query(api, key, timeout);
+
+    // then
+    assertThat(result).succeedsWithin(timeout).isEqualTo("myProcess");
+    final BrokerExecuteQuery request = brokerClient.getSingleBrokerRequest();
+    assertThat(request.getBrokerId()).contains(1);
+  }
+
+  @Test
+  public void shouldSendQueryToLeaderIfThereIsNoFollower() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var api = new QueryApiImpl(brokerClient, new QueryApiCfg().setFollowerReadsEnabled(true));
+    final var timeout = Duration.ofSeconds(5);
+    new QueryStub(new BrokerResponse<>("myProcess", 1, 1)).registerWith(brokerClient);
+
+    // when
+    final var result = querier.query(api, key, timeout);
+
+    // then
+    assertThat(result).succeedsWithin(timeout).isEqualTo("myProcess");
+    final BrokerExecuteQuery request = brokerClient.getSingleBrokerRequest();
+    assertThat(request.getBrokerId()).isEmpty();
+  }
+
+  @Test
+  public void shouldRetryQueryOnLeaderIfFollowerCannotAnswer() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var api = new QueryApiImpl(brokerClient, new QueryApiCfg().setFollowerReadsEnabled(true));
+    final var timeout = Duration.ofSeconds(5);
+    addFollower(1, 1);
+    brokerClient.registerHandler(
+        BrokerExecuteQuery.class,
+        (final BrokerExecuteQuery request) ->
+            request.getBrokerId().isPresent()
+                ? new BrokerErrorResponse<>(
+                    new BrokerError(ErrorCode.PARTITION_LEADER_MISMATCH, "Leader mismatch"))
+                : new BrokerResponse<>("myProcess", 1, 1));
+
+    // when
+    final var result = querier.query(api, key, timeout);
+
+    // then
+    assertThat(result).succeedsWithin(timeout).isEqualTo("myProcess");
+    assertThat(brokerClient.getBrokerRequests())
+        .map(request -> request.getBrokerId())
+        .containsExactly(Optional.of(1), Optional.empty());
+  }
+
+  private void addFollower(final int partitionId, final int followerId) {
+    ((BrokerClusterStateImpl) brokerClient.getTopologyManager().getTopology())
+        .addPartitionFollower(partitionId, followerId);
+  }
+
   private interface Querier {
     CompletionStage<String> query(final QueryApi api, final long key, final Duration timeout);
   }
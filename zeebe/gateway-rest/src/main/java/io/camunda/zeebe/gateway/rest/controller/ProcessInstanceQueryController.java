@@ -15,6 +15,8 @@ import io.camunda.zeebe.gateway.rest.RestErrorMapper;
 import io.camunda.zeebe.gateway.rest.SearchQueryRequestMapper;
 import io.camunda.zeebe.gateway.rest.SearchQueryResponseMapper;
 import io.camunda.zeebe.gateway.rest.TenantAttributeHolder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -33,29 +35,40 @@ public class ProcessInstanceQueryController {
       path = "/process-instances/search",
       produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
       consumes = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<ProcessInstanceSearchQueryResponse> searchProcessInstances(
-      @RequestBody final ProcessInstanceSearchQueryRequest query) {
+  public CompletableFuture<ResponseEntity<ProcessInstanceSearchQueryResponse>>
+      searchProcessInstances(@RequestBody final ProcessInstanceSearchQueryRequest query) {
     return SearchQueryRequestMapper.toProcessInstanceQuery(query)
-        .fold(this::search, RestErrorMapper::mapProblemToResponse);
+        .fold(this::search, RestErrorMapper::mapProblemToCompletedResponse);
   }
 
-  private ResponseEntity<ProcessInstanceSearchQueryResponse> search(
+  private CompletableFuture<ResponseEntity<ProcessInstanceSearchQueryResponse>> search(
       final ProcessInstanceQuery query) {
     try {
       final var tenantIds = TenantAttributeHolder.tenantIds();
-      final var result =
-          processInstanceServices.withAuthentication((a) -> a.tenants(tenantIds)).search(query);
-      return ResponseEntity.ok(
-          SearchQueryResponseMapper.toProcessInstanceSearchQueryResponse(result).get());
+      return processInstanceServices
+          .withAuthentication((a) -> a.tenants(tenantIds))
+          .searchAsync(query)
+          .thenApply(
+              result ->
+                  ResponseEntity.ok(
+                      SearchQueryResponseMapper.toProcessInstanceSearchQueryResponse(result).get()))
+          .exceptionally(this::mapSearchFailure);
     } catch (final Throwable e) {
-      final var problemDetail =
-          RestErrorMapper.createProblemDetail(
-              HttpStatus.BAD_REQUEST,
-              e.getMessage(),
-              "Failed to execute Process Instance Search Query");
-      return ResponseEntity.of(problemDetail)
-          .headers(httpHeaders -> httpHeaders.setContentType(MediaType.APPLICATION_PROBLEM_JSON))
-          .build();
+      return CompletableFuture.completedFuture(mapSearchFailure(e));
     }
   }
+
+  private ResponseEntity<ProcessInstanceSearchQueryResponse> mapSearchFailure(
+      final Throwable error) {
+    final var cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    final var problemDetail =
+        RestErrorMapper.createProblemDetail(
+            HttpStatus.BAD_REQUEST,
+            cause.getMessage(),
+            "Failed to execute Process Instance Search Query");
+    return ResponseEntity.of(problemDetail)
+        .headers(httpHeaders -> httpHeaders.setContentType(MediaType.APPLICATION_PROBLEM_JSON))
+        .build();
+  }
 }
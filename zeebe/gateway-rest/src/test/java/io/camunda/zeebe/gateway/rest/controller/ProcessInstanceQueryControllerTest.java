@@ -19,6 +19,7 @@ import io.camunda.service.search.query.SearchQueryResult;
 import io.camunda.service.search.query.SearchQueryResult.Builder;
 import io.camunda.service.search.sort.ProcessInstanceSort;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -75,8 +76,8 @@ public class ProcessInstanceQueryControllerTest extends RestControllerTest {
   @Test
   void shouldSearchProcessInstancesWithEmptyQuery() {
     // given
-    when(processInstanceServices.search(any(ProcessInstanceQuery.class)))
-        .thenReturn(SEARCH_QUERY_RESULT);
+    when(processInstanceServices.searchAsync(any(ProcessInstanceQuery.class)))
+        .thenReturn(CompletableFuture.completedFuture(SEARCH_QUERY_RESULT));
     final String request = "{}";
     // when / then
     webClient
@@ -93,14 +94,14 @@ public class ProcessInstanceQueryControllerTest extends RestControllerTest {
         .expectBody()
         .json(EXPECTED_SEARCH_RESPONSE);
 
-    verify(processInstanceServices).search(new ProcessInstanceQuery.Builder().build());
+    verify(processInstanceServices).searchAsync(new ProcessInstanceQuery.Builder().build());
   }
 
   @Test
   void shouldSearchProcessInstancesWithSorting() {
     // given
-    when(processInstanceServices.search(any(ProcessInstanceQuery.class)))
-        .thenReturn(SEARCH_QUERY_RESULT);
+    when(processInstanceServices.searchAsync(any(ProcessInstanceQuery.class)))
+        .thenReturn(CompletableFuture.completedFuture(SEARCH_QUERY_RESULT));
     final var request =
         """
         {
@@ -134,7 +135,7 @@ public class ProcessInstanceQueryControllerTest extends RestControllerTest {
         .json(EXPECTED_SEARCH_RESPONSE);
 
     verify(processInstanceServices)
-        .search(
+        .searchAsync(
             new ProcessInstanceQuery.Builder()
                 .sort(
                     new ProcessInstanceSort.Builder()
@@ -187,7 +188,7 @@ public class ProcessInstanceQueryControllerTest extends RestControllerTest {
         .expectBody()
         .json(expectedResponse);
 
-    verify(processInstanceServices, never()).search(any(ProcessInstanceQuery.class));
+    verify(processInstanceServices, never()).searchAsync(any(ProcessInstanceQuery.class));
   }
 
   @Test
@@ -229,7 +230,7 @@ public class ProcessInstanceQueryControllerTest extends RestControllerTest {
         .expectBody()
         .json(expectedResponse);
 
-    verify(processInstanceServices, never()).search(any(ProcessInstanceQuery.class));
+    verify(processInstanceServices, never()).searchAsync(any(ProcessInstanceQuery.class));
   }
 
   @Test
@@ -270,6 +271,6 @@ public class ProcessInstanceQueryControllerTest extends RestControllerTest {
         .expectBody()
         .json(expectedResponse);
 
-    verify(processInstanceServices, never()).search(any(ProcessInstanceQuery.class));
+    verify(processInstanceServices, never()).searchAsync(any(ProcessInstanceQuery.class));
   }
 }
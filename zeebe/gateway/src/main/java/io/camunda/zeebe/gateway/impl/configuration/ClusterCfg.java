@@ -42,6 +42,7 @@ public final class ClusterCfg {
   private MembershipCfg membership = new MembershipCfg();
   private SecurityCfg security = new SecurityCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private boolean messageNativeTransport = true;
 
   public String getMemberId() {
     return memberId;
@@ -147,6 +148,15 @@ public final class ClusterCfg {
     messageCompression = compressionAlgorithm;
   }
 
+  public boolean isMessageNativeTransport() {
+    return messageNativeTransport;
+  }
+
+  public ClusterCfg setMessageNativeTransport(final boolean messageNativeTransport) {
+    this.messageNativeTransport = messageNativeTransport;
+    return this;
+  }
+
   public List<String> getInitialContactPoints() {
     return initialContactPoints;
   }
@@ -167,7 +177,8 @@ public final class ClusterCfg {
         port,
         membership,
         security,
-        messageCompression);
+        messageCompression,
+        messageNativeTransport);
   }
 
   @Override
@@ -180,6 +191,7 @@ public final class ClusterCfg {
     }
     final ClusterCfg that = (ClusterCfg) o;
     return port == that.port
+        && messageNativeTransport == that.messageNativeTransport
         && Objects.equals(initialContactPoints, that.initialContactPoints)
         && Objects.equals(requestTimeout, that.requestTimeout)
         && Objects.equals(clusterName, that.clusterName)
@@ -214,6 +226,8 @@ public final class ClusterCfg {
         + security
         + ", messageCompression="
         + messageCompression
+        + ", messageNativeTransport="
+        + messageNativeTransport
         + '}';
   }
 }
@@ -21,6 +21,7 @@ public class GatewayCfg {
   private List<InterceptorCfg> interceptors = new ArrayList<>();
   private List<FilterCfg> filters = new ArrayList<>();
   private MultiTenancyCfg multiTenancy = new MultiTenancyCfg();
+  private QueryApiCfg queryApi = new QueryApiCfg();
 
   public void init() {
     init(ConfigurationDefaults.DEFAULT_HOST);
@@ -99,10 +100,18 @@ public class GatewayCfg {
     this.multiTenancy = multiTenancy;
   }
 
+  public QueryApiCfg getQueryApi() {
+    return queryApi;
+  }
+
+  public void setQueryApi(final QueryApiCfg queryApi) {
+    this.queryApi = queryApi;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        network, cluster, threads, security, longPolling, interceptors, multiTenancy);
+        network, cluster, threads, security, longPolling, interceptors, multiTenancy, queryApi);
   }
 
   @Override
@@ -120,7 +129,8 @@ public class GatewayCfg {
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
         && Objects.equals(interceptors, that.interceptors)
-        && Objects.equals(multiTenancy, that.multiTenancy);
+        && Objects.equals(multiTenancy, that.multiTenancy)
+        && Objects.equals(queryApi, that.queryApi);
   }
 
   @Override
@@ -140,6 +150,8 @@ public class GatewayCfg {
         + interceptors
         + ", multiTenancy="
         + multiTenancy
+        + ", queryApi="
+        + queryApi
         + '}';
   }
 }
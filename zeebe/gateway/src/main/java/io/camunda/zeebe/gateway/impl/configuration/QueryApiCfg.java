@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.util.Objects;
+
+public class QueryApiCfg {
+
+  private boolean followerReadsEnabled = false;
+
+  public boolean isFollowerReadsEnabled() {
+    return followerReadsEnabled;
+  }
+
+  public QueryApiCfg setFollowerReadsEnabled(final boolean followerReadsEnabled) {
+    this.followerReadsEnabled = followerReadsEnabled;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(followerReadsEnabled);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final QueryApiCfg that = (QueryApiCfg) o;
+    return followerReadsEnabled == that.followerReadsEnabled;
+  }
+
+  @Override
+  public String toString() {
+    return "QueryApiCfg{" + "followerReadsEnabled=" + followerReadsEnabled + '}';
+  }
+}
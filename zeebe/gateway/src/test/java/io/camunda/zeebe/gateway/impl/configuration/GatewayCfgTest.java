@@ -51,6 +51,7 @@ public final class GatewayCfgTest {
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
     CUSTOM_CFG.getMultiTenancy().setEnabled(true);
+    CUSTOM_CFG.getQueryApi().setFollowerReadsEnabled(true);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
     CUSTOM_CFG.getInterceptors().get(0).setClassName("io.camunda.zeebe.example.Interceptor");
@@ -147,6 +148,7 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.network.minKeepAliveInterval", Duration.ofSeconds(30).toString());
     setEnv("zeebe.gateway.longPolling.enabled", String.valueOf(true));
     setEnv("zeebe.gateway.multiTenancy.enabled", String.valueOf(false));
+    setEnv("zeebe.gateway.queryApi.followerReadsEnabled", String.valueOf(false));
     setEnv("zeebe.gateway.interceptors.0.id", "overwritten");
     setEnv("zeebe.gateway.interceptors.0.className", "Overwritten");
     setEnv("zeebe.gateway.interceptors.0.jarPath", "./overwritten.jar");
@@ -180,6 +182,7 @@ public final class GatewayCfgTest {
                 getClass().getClassLoader().getResource("security/test-chain.cert.pem").getPath()));
     expected.getLongPolling().setEnabled(true);
     expected.getMultiTenancy().setEnabled(false);
+    expected.getQueryApi().setFollowerReadsEnabled(false);
 
     expected.getInterceptors().add(new InterceptorCfg());
     expected.getInterceptors().get(0).setId("overwritten");
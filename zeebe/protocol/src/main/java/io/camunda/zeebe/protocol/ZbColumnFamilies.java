@@ -171,7 +171,9 @@ public enum ZbColumnFamilies implements EnumValue {
   USER_TASK_STATES(80),
   COMPENSATION_SUBSCRIPTION(81),
 
-  PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_DEPLOYMENT_KEY(82);
+  PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_DEPLOYMENT_KEY(82),
+
+  MESSAGE_SUBSCRIPTION_COUNT_BY_NAME_AND_CORRELATION_KEY(83);
 
   private final int value;
 
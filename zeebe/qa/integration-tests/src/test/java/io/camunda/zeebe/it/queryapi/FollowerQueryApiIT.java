@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.it.queryapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.gateway.impl.configuration.QueryApiCfg;
+import io.camunda.zeebe.gateway.query.impl.QueryApiImpl;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.qa.util.cluster.TestCluster;
+import io.camunda.zeebe.qa.util.junit.ZeebeIntegration;
+import io.camunda.zeebe.qa.util.junit.ZeebeIntegration.TestZeebe;
+import java.time.Duration;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+@ZeebeIntegration
+final class FollowerQueryApiIT {
+  private static final BpmnModelInstance PROCESS =
+      Bpmn.createExecutableProcess("process").startEvent().endEvent().done();
+
+  @TestZeebe
+  private final TestCluster cluster =
+      TestCluster.builder()
+          .withEmbeddedGateway(false)
+          .withGatewaysCount(1)
+          .withBrokersCount(2)
+          .withPartitionsCount(1)
+          .withReplicationFactor(2)
+          .withBrokerConfig(
+              broker ->
+                  broker.withBrokerConfig(
+                      cfg -> {
+                        cfg.getExperimental().getQueryApi().setEnabled(true);
+                        cfg.getExperimental().getQueryApi().setFollowerReadsEnabled(true);
+                      }))
+          .withGatewayConfig(
+              gateway ->
+                  gateway.withGatewayConfig(cfg -> cfg.getQueryApi().setFollowerReadsEnabled(true)))
+          .build();
+
+  @Test
+  void shouldAnswerQueryOnFollower() {
+    // given
+    final long processDefinitionKey;
+    try (final var client = cluster.newClientBuilder().build()) {
+      processDefinitionKey =
+          client
+              .newDeployResourceCommand()
+              .addProcessModel(PROCESS, "process.bpmn")
+              .send()
+              .join()
+              .getProcesses()
+              .get(0)
+              .getProcessDefinitionKey();
+    }
+    final var queryApi =
+        new QueryApiImpl(
+            cluster.availableGateway().bean(BrokerClient.class),
+            new QueryApiCfg().setFollowerReadsEnabled(true));
+
+    // when - without a quorum, the remaining broker stays a follower and there is no leader
+    cluster.leaderForPartition(1).stop();
+
+    // then
+    Awaitility.await("until the follower answers the query")
+        .atMost(Duration.ofMinutes(1))
+        .untilAsserted(
+            () ->
+                assertThat(
+                        queryApi.getBpmnProcessIdFromProcess(
+                            processDefinitionKey, Duration.ofSeconds(5)))
+                    .succeedsWithin(Duration.ofSeconds(10))
+                    .isEqualTo("process"));
+  }
+}
@@ -18,6 +18,7 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
@@ -90,7 +91,10 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    // the content may be copied on every access, e.g. when the chunk wraps a request buffer, so
+    // read it only once and reuse it for verifying, writing and checksumming the chunk
+    final byte[] content = snapshotChunk.getContent();
+    checkChunkChecksumIsValid(snapshotChunk, content, snapshotId, chunkName);
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -103,30 +107,33 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    if (!tryLinkFromLatestSnapshot(snapshotChunk, content, snapshotFile)) {
+      writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
+    }
 
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
+    // the chunk checksum was verified above, no need to compute it a second time
     checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+        snapshotFile.getFileName().toString(), content, snapshotChunk.getChecksum());
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
-        collectMetadata(snapshotChunk);
+        collectMetadata(snapshotChunk, content);
       } catch (final IOException e) {
         throw new SnapshotWriteException("Cannot decode snapshot metadata");
       }
     }
   }
 
-  private void collectMetadata(final SnapshotChunk chunk) throws IOException {
+  private void collectMetadata(final SnapshotChunk chunk, final byte[] content) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
     }
 
-    metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
-    writtenMetadataBytes += chunk.getContent().length;
+    metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), content);
+    writtenMetadataBytes += content.length;
 
     if (writtenMetadataBytes == chunk.getTotalFileSize()) {
       metadata = FileBasedSnapshotMetadata.decode(metadataBuffer.array());
@@ -134,10 +141,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void checkChunkChecksumIsValid(
-      final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
+      final SnapshotChunk snapshotChunk,
+      final byte[] content,
+      final String snapshotId,
+      final String chunkName)
       throws SnapshotWriteException {
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final long actualChecksum = SnapshotChunkUtil.createChecksum(content);
 
     if (expectedChecksum != actualChecksum) {
       throw new SnapshotWriteException(
@@ -190,17 +200,78 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Most files of a snapshot, e.g. RocksDB's SST files, are immutable and are often already part of
+   * the latest persisted snapshot. If the chunk contains such a file as a whole, the existing file
+   * is hard-linked instead of writing and flushing the received copy again.
+   *
+   * @return true if the file was linked, false if the chunk still has to be written
+   */
+  private boolean tryLinkFromLatestSnapshot(
+      final SnapshotChunk snapshotChunk, final byte[] content, final Path snapshotFile) {
+    if (snapshotChunk.getFileBlockPosition() != 0
+        || content.length != snapshotChunk.getTotalFileSize()) {
+      return false;
+    }
+
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      return false;
+    }
+
+    final var existingFile = latestSnapshot.get().getPath().resolve(snapshotChunk.getChunkName());
+    try {
+      if (!Files.isRegularFile(existingFile)
+          || Files.size(existingFile) != content.length
+          || !hasContent(existingFile, content)) {
+        return false;
+      }
+
+      // a retried chunk may have been applied already
+      Files.deleteIfExists(snapshotFile);
+      Files.createLink(snapshotFile, existingFile);
+    } catch (final IOException | UnsupportedOperationException e) {
+      LOGGER.debug(
+          "Failed to link {} from the latest snapshot, will write the received chunk instead",
+          existingFile,
+          e);
+      return false;
+    }
+
+    LOGGER.trace("Linked replicated snapshot chunk to existing file {}", existingFile);
+    return true;
+  }
+
+  private boolean hasContent(final Path file, final byte[] content) throws IOException {
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final var readBuffer = ByteBuffer.allocate(Math.min(BLOCK_SIZE, content.length));
+      int offset = 0;
+      int read;
+      while ((read = channel.read(readBuffer.clear())) > 0) {
+        if (offset + read > content.length
+            || !readBuffer.flip().equals(ByteBuffer.wrap(content, offset, read))) {
+          return false;
+        }
+        offset += read;
+      }
+
+      return offset == content.length;
+    }
+  }
+
   private void writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+      final SnapshotChunk snapshotChunk, final byte[] content, final Path snapshotFile)
+      throws SnapshotWriteException {
 
     try (final var channel =
         FileChannel.open(snapshotFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
 
+      // write in blocks to bound the temporary direct buffer the JDK copies heap buffers into
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.position(snapshotChunk.getFileBlockPosition() + buffer.position());
-        channel.write(buffer.limit(newLimit));
+        channel.write(
+            buffer.limit(newLimit), snapshotChunk.getFileBlockPosition() + buffer.position());
         buffer.limit(buffer.capacity());
       }
 
@@ -135,11 +135,19 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
 
   @Override
   public void updateFromBytes(final String fileName, final byte[] bytes) {
-    combinedChecksum.update(fileName.getBytes(UTF_8));
     final Checksum checksum = new CRC32C();
     checksum.update(bytes);
+    updateFromBytes(fileName, bytes, checksum.getValue());
+  }
+
+  /**
+   * Same as {@link #updateFromBytes(String, byte[])}, but uses the given CRC32C checksum of the
+   * bytes instead of computing it again, e.g. when it was already verified for a received chunk.
+   */
+  public void updateFromBytes(final String fileName, final byte[] bytes, final long checksum) {
+    combinedChecksum.update(fileName.getBytes(UTF_8));
     combinedChecksum.update(bytes);
-    checksums.put(fileName, checksum.getValue());
+    checksums.put(fileName, checksum);
   }
 
   @Override
@@ -374,6 +374,58 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldLinkFilesWhichAreInLatestSnapshot() throws IOException {
+    // given
+    final var firstReceivedSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+
+    // when
+    final var secondReceivedSnapshot = receiveSnapshot(takePersistedSnapshot(2L));
+
+    // then
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(
+              Files.isSameFile(
+                  secondReceivedSnapshot.getPath().resolve(fileName),
+                  firstReceivedSnapshot.getPath().resolve(fileName)))
+          .as("file %s should be linked from the latest snapshot", fileName)
+          .isTrue();
+    }
+
+    final var secondPersistedSnapshot = secondReceivedSnapshot.persist().join();
+    assertThat(secondPersistedSnapshot.getPath().resolve("file1"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file1"));
+  }
+
+  @Test
+  public void shouldWriteFilesWhichDifferFromLatestSnapshot() throws IOException {
+    // given
+    final var firstReceivedSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(2L, 0L, 1, 0).get();
+    transientSnapshot
+        .take(
+            path -> {
+              writeSnapshot(path);
+              try {
+                Files.writeString(path.resolve("file1"), "changed file1 contents");
+              } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            })
+        .join();
+    final var secondSnapshot =
+        transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
+
+    // when
+    final var secondReceivedSnapshot = receiveSnapshot(secondSnapshot);
+
+    // then
+    final var receivedFile = secondReceivedSnapshot.getPath().resolve("file1");
+    assertThat(Files.isSameFile(receivedFile, firstReceivedSnapshot.getPath().resolve("file1")))
+        .isFalse();
+    assertThat(receivedFile).hasContent("changed file1 contents");
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
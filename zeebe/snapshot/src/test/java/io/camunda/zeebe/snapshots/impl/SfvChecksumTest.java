@@ -51,6 +51,21 @@ public class SfvChecksumTest {
     assertThat(sfvChecksum.getCombinedValue()).isEqualTo(0xbbaaccddL);
   }
 
+  @Test
+  public void shouldUpdateFromBytesWithKnownChecksumLikeComputedOne() {
+    // given
+    final byte[] bytes = "some content".getBytes(StandardCharsets.UTF_8);
+    final var computed = new SfvChecksumImpl();
+    computed.updateFromBytes("file1", bytes);
+
+    // when
+    sfvChecksum.updateFromBytes("file1", bytes, SnapshotChunkUtil.createChecksum(bytes));
+
+    // then
+    assertThat(sfvChecksum.getCombinedValue()).isEqualTo(computed.getCombinedValue());
+    assertThat(sfvChecksum.getChecksums()).isEqualTo(computed.getChecksums());
+  }
+
   @Test
   public void shouldReadAndWriteSameValues() throws IOException {
     // given
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,21 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the stored values of all given keys with a single batched read, instead of one read
+   * per key. Like {@link #get(DbKey)}, the lookup reflects the changes made in the current
+   * transaction.
+   *
+   * <p>The consumer is called once for every key, in the iteration order of the given keys. If a
+   * key was not found in the column family, the consumer accepts null as value. Be aware that the
+   * given DbValue is reused for every call and should not be stored. The keys must be distinct
+   * instances, since they are all serialized before the lookup is done.
+   *
+   * @param keys the keys to look up
+   * @param consumer the consumer which accepts each key and its value, or null if not found
+   */
+  void multiGet(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> consumer);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -19,6 +19,10 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -156,6 +160,42 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> consumer) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    final List<byte[]> values = new ArrayList<>(keys.size());
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final List<byte[]> keyBytes = new ArrayList<>(keys.size());
+            for (final KeyType key : keys) {
+              keyBytes.add(columnFamilyContext.keyWithColumnFamily(key).array());
+            }
+
+            values.addAll(
+                transaction.multiGet(
+                    transactionDb.getReadOptions(), transactionDb.getDefaultHandle(), keyBytes));
+          });
+    }
+
+    final Iterator<KeyType> keyIterator = keys.iterator();
+    for (final byte[] value : values) {
+      final KeyType key = keyIterator.next();
+      columnFamilyContext.wrapValueView(value);
+      final DirectBuffer valueBuffer = columnFamilyContext.getValueView();
+      if (valueBuffer != null) {
+        valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+        consumer.accept(key, valueInstance);
+      } else {
+        consumer.accept(key, null);
+      }
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
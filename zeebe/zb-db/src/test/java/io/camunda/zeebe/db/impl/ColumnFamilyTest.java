@@ -124,6 +124,33 @@ public final class ColumnFamilyTest {
     assertThat(longValue.getValue()).isEqualTo(12345);
   }
 
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(456789, 12345);
+    final var firstKey = new DbLong();
+    firstKey.wrapLong(456789);
+    final var missingKey = new DbLong();
+    missingKey.wrapLong(700);
+    final var secondKey = new DbLong();
+    secondKey.wrapLong(1213);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        List.of(firstKey, missingKey, secondKey),
+        (k, v) -> {
+          keys.add(k.getValue());
+          values.add(v == null ? null : v.getValue());
+        });
+
+    // then
+    assertThat(keys).containsExactly(456789L, 700L, 1213L);
+    assertThat(values).containsExactly(12345L, null, 255L);
+  }
+
   @Test
   public void shouldCheckForExistence() {
     // given
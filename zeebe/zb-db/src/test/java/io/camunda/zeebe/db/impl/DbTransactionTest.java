@@ -18,6 +18,7 @@ import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -151,6 +152,37 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isTrue();
   }
 
+  @Test
+  public void shouldMultiGetOnOpenTransaction() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    oneColumnFamily.insert(oneKey, oneValue);
+
+    final var insertedKey = new DbLong();
+    insertedKey.wrapLong(2);
+    final var deletedKey = new DbLong();
+    deletedKey.wrapLong(1);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneValue.wrapLong(-2);
+          oneColumnFamily.insert(insertedKey, oneValue);
+          oneColumnFamily.deleteExisting(deletedKey);
+        });
+
+    // when
+    final Map<Long, Long> values = new HashMap<>();
+    oneColumnFamily.multiGet(
+        List.of(insertedKey, deletedKey),
+        (key, value) -> values.put(key.getValue(), value == null ? null : value.getValue()));
+
+    // then
+    // uses the same transaction
+    assertThat(values).containsEntry(2L, -2L).containsEntry(1L, null);
+  }
+
   @Test
   public void shouldNotReopenTransaction() throws Exception {
     // given